@@ -21,6 +21,7 @@ package io.ballerina.artifactsgenerator;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.modelgenerator.commons.CancellationToken;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
@@ -107,12 +108,13 @@ public class ArtifactsGenerator {
 
         Map<String, Map<String, Artifact>> artifactMap = new ConcurrentHashMap<>();
         ConcurrentMap<String, Map<String, List<String>>> documentMap = new ConcurrentHashMap<>();
+        CancellationToken cancellationToken = CancellationToken.current();
         defaultModule.documentIds().stream().parallel().forEach(documentId -> {
             Document document = defaultModule.document(documentId);
             Map<String, List<String>> idMap = new HashMap<>();
             SyntaxTree syntaxTree = document.syntaxTree();
             ModulePartNode rootNode = syntaxTree.rootNode();
-            ModuleNodeTransformer moduleNodeTransformer = new ModuleNodeTransformer(semanticModel);
+            ModuleNodeTransformer moduleNodeTransformer = new ModuleNodeTransformer(semanticModel, cancellationToken);
             rootNode.members().stream()
                     .map(member -> member.apply(moduleNodeTransformer))
                     .flatMap(Optional::stream)
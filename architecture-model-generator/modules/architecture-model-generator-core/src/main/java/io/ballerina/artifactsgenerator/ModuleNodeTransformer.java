@@ -43,6 +43,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.modelgenerator.commons.CancellationToken;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 
 import java.util.Optional;
@@ -61,16 +62,23 @@ import java.util.stream.Collectors;
 public class ModuleNodeTransformer extends NodeTransformer<Optional<Artifact>> {
 
     private final SemanticModel semanticModel;
+    private final CancellationToken cancellationToken;
 
     private static final String AUTOMATION_FUNCTION_NAME = "automation";
     private static final String MAIN_FUNCTION_NAME = "main";
 
     public ModuleNodeTransformer(SemanticModel semanticModel) {
+        this(semanticModel, CancellationToken.current());
+    }
+
+    public ModuleNodeTransformer(SemanticModel semanticModel, CancellationToken cancellationToken) {
         this.semanticModel = semanticModel;
+        this.cancellationToken = cancellationToken;
     }
 
     @Override
     public Optional<Artifact> transform(FunctionDefinitionNode functionDefinitionNode) {
+        cancellationToken.checkCanceled();
         Artifact.Builder functionBuilder = new Artifact.Builder(functionDefinitionNode);
         String functionName = functionDefinitionNode.functionName().text();
 
@@ -107,6 +115,7 @@ public class ModuleNodeTransformer extends NodeTransformer<Optional<Artifact>> {
 
     @Override
     public Optional<Artifact> transform(ServiceDeclarationNode serviceDeclarationNode) {
+        cancellationToken.checkCanceled();
         Artifact.Builder serviceBuilder = new Artifact.Builder(serviceDeclarationNode).locationId();
 
         // Set the icon using the listener
@@ -145,6 +154,7 @@ public class ModuleNodeTransformer extends NodeTransformer<Optional<Artifact>> {
 
     @Override
     public Optional<Artifact> transform(ListenerDeclarationNode listenerDeclarationNode) {
+        cancellationToken.checkCanceled();
         Artifact.Builder listenerBuilder = new Artifact.Builder(listenerDeclarationNode)
                 .name(listenerDeclarationNode.variableName().text())
                 .type(Artifact.Type.LISTENER);
@@ -158,6 +168,7 @@ public class ModuleNodeTransformer extends NodeTransformer<Optional<Artifact>> {
 
     @Override
     public Optional<Artifact> transform(ModuleVariableDeclarationNode moduleVariableDeclarationNode) {
+        cancellationToken.checkCanceled();
         Artifact.Builder variableBuilder = new Artifact.Builder(moduleVariableDeclarationNode)
                 .name(CommonUtils.getVariableName(
                         moduleVariableDeclarationNode.typedBindingPattern().bindingPattern()));
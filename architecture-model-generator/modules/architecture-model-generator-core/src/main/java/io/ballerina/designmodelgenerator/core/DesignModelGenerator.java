@@ -34,6 +34,7 @@ import io.ballerina.designmodelgenerator.core.model.Listener;
 import io.ballerina.designmodelgenerator.core.model.Location;
 import io.ballerina.designmodelgenerator.core.model.ResourceFunction;
 import io.ballerina.designmodelgenerator.core.model.Service;
+import io.ballerina.modelgenerator.commons.CancellationToken;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
@@ -62,6 +63,7 @@ public class DesignModelGenerator {
     private static final String AUTOMATION = "automation";
     private static final String SERVICE = "Service";
     private final Map<String, ModulePartNode> documentMap;
+    private final CancellationToken cancellationToken;
 
     public DesignModelGenerator(Package ballerinaPackage) {
         this.defaultModule = ballerinaPackage.getDefaultModule();
@@ -73,6 +75,7 @@ public class DesignModelGenerator {
             Document document = this.defaultModule.document(documentId);
             documentMap.put(document.name(), document.syntaxTree().rootNode());
         });
+        this.cancellationToken = CancellationToken.current();
     }
 
     public DesignModel generate() {
@@ -81,6 +84,7 @@ public class DesignModelGenerator {
         ConnectionFinder connectionFinder = new ConnectionFinder(semanticModel, rootPath, documentMap,
                 intermediateModel);
         this.defaultModule.documentIds().forEach(d -> {
+            cancellationToken.checkCanceled();
             ModulePartNode rootNode = this.defaultModule.document(d).syntaxTree().rootNode();
             CodeAnalyzer codeAnalyzer = new CodeAnalyzer(semanticModel, intermediateModel, rootPath, connectionFinder);
             codeAnalyzer.visit(rootNode);
@@ -97,6 +101,7 @@ public class DesignModelGenerator {
 
         for (Map.Entry<String, IntermediateModel.ServiceModel> serviceEntry :
                 intermediateModel.serviceModelMap.entrySet()) {
+            cancellationToken.checkCanceled();
             IntermediateModel.ServiceModel serviceModel = serviceEntry.getValue();
             Set<String> connections = new HashSet<>();
             List<Function> functions = new ArrayList<>();
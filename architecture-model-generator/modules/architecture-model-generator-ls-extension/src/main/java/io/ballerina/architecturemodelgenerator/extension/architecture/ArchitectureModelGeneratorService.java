@@ -27,6 +27,7 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureMode
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.extension.Utils;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -70,7 +71,7 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
     public CompletableFuture<ArchitectureModelResponse> getProjectComponentModels
             (ArchitectureModelRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             ArchitectureModelResponse response = new ArchitectureModelResponse();
             Map<String, JsonObject> componentModelMap = new HashMap<>();
             for (String documentUri : request.getDocumentUris()) {
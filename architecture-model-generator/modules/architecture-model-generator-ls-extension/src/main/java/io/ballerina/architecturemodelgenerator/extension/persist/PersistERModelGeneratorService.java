@@ -29,6 +29,7 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessag
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -73,7 +74,7 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
 
     @JsonRequest
     public CompletableFuture<PersistERModelResponse> getPersistERModels(PersistERModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             PersistERModelResponse response = new PersistERModelResponse();
 
             Path path = Path.of(request.getDocumentUri());
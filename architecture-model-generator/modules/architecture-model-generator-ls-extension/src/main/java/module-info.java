@@ -24,5 +24,6 @@ module io.ballerina.LSExtensions.ProjectDesignService {
     requires com.google.gson;
     requires io.ballerina.tools.api;
     requires io.ballerina.architecturemodelgenerator;
+    requires io.ballerina.model.generator.commons;
     requires io.ballerina.parser;
 }
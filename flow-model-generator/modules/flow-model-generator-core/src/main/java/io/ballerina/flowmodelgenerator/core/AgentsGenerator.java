@@ -54,15 +54,14 @@ import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.ParameterData;
+import io.ballerina.modelgenerator.commons.ProjectForkPool;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -646,14 +645,14 @@ public class AgentsGenerator {
                             endTextPosition - startTextPosition), connectionTextEdit.getNewText());
             textEdits[i] = textEdit;
         }
-        TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
+        try (ProjectForkPool.Fork fork = ProjectForkPool.getInstance().acquire(project)) {
+            Document modifiedDoc = fork.apply(document.documentId(), textEdits);
+            SemanticModel newSemanticModel = fork.semanticModel(modifiedDoc.module().moduleId());
+            return getActions(flowNode, newSemanticModel);
+        }
+    }
+
+    private JsonArray getActions(FlowNode flowNode, SemanticModel newSemanticModel) {
         Optional<Property> property = flowNode.getProperty(Property.VARIABLE_KEY);
         if (property.isEmpty()) {
             throw new IllegalStateException("Variable name is not present");
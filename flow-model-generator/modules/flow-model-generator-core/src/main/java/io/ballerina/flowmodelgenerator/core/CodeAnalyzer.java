@@ -146,6 +146,7 @@ import io.ballerina.flowmodelgenerator.core.model.node.WaitBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.XmlPayloadBuilder;
 import io.ballerina.flowmodelgenerator.core.utils.FlowNodeUtil;
 import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
+import io.ballerina.modelgenerator.commons.CancellationToken;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
@@ -189,12 +190,18 @@ class CodeAnalyzer extends NodeVisitor {
     private final DiagnosticHandler diagnosticHandler;
     private final boolean forceAssign;
     private final String connectionScope;
+    private final CancellationToken cancellationToken;
 
     // State fields
     private NodeBuilder nodeBuilder;
     private final List<FlowNode> flowNodeList;
     private final Stack<NodeBuilder> flowNodeBuilderStack;
     private TypedBindingPatternNode typedBindingPatternNode;
+
+    // Request-scoped memo of the function data of the symbols invoked in the canvas
+    private final Map<String, FunctionData> functionDataMemo;
+    private int functionDataHits;
+    private int functionDataMisses;
     private static final String BALLERINAX = "ballerinax";
     private static final String AI_AGENT = "ai";
 
@@ -212,13 +219,27 @@ class CodeAnalyzer extends NodeVisitor {
         this.flowNodeList = new ArrayList<>();
         this.flowNodeBuilderStack = new Stack<>();
         this.diagnosticHandler = new DiagnosticHandler(semanticModel);
+        this.functionDataMemo = new HashMap<>();
+        this.cancellationToken = CancellationToken.current();
     }
 
     @Override
     public void visit(FunctionDefinitionNode functionDefinitionNode) {
+        if (analyzeFunctionSignature(functionDefinitionNode)) {
+            functionDefinitionNode.functionBody().accept(this);
+        }
+    }
+
+    /**
+     * Generates the start event node of the given function without analyzing the function body.
+     *
+     * @param functionDefinitionNode the function definition node
+     * @return true if the start event node is generated, false if the function symbol cannot be resolved
+     */
+    boolean analyzeFunctionSignature(FunctionDefinitionNode functionDefinitionNode) {
         Optional<Symbol> symbol = semanticModel.symbol(functionDefinitionNode);
         if (symbol.isEmpty()) {
-            return;
+            return false;
         }
         // Create the start event node
         FunctionBodyNode functionBodyNode = functionDefinitionNode.functionBody();
@@ -238,7 +259,29 @@ class CodeAnalyzer extends NodeVisitor {
                 .addData(FunctionDefinitionBuilder.METADATA_RETURN_KEY, returnTypeDesc.type().toSourceCode().strip()));
 
         endNode();
-        functionBodyNode.accept(this);
+        return true;
+    }
+
+    /**
+     * Analyzes a top-level statement or comment of the function body and returns the flow nodes generated for it.
+     *
+     * @param statementOrComment the statement or the comment node
+     * @return the flow nodes generated for the given node
+     */
+    List<FlowNode> analyzeStatement(Node statementOrComment) {
+        cancellationToken.checkCanceled();
+        int startIndex = flowNodeList.size();
+        statementOrComment.accept(this);
+        return new ArrayList<>(flowNodeList.subList(startIndex, flowNodeList.size()));
+    }
+
+    /**
+     * Adds the flow nodes generated by a previous analysis of an unchanged statement.
+     *
+     * @param flowNodes the previously generated flow nodes
+     */
+    void addFlowNodes(List<FlowNode> flowNodes) {
+        flowNodeList.addAll(flowNodes);
     }
 
     @Override
@@ -258,6 +301,7 @@ class CodeAnalyzer extends NodeVisitor {
         functionBodyBlockNode.namedWorkerDeclarator()
                 .ifPresent(namedWorkerDeclarator -> namedWorkerDeclarator.accept(this));
         for (Node statementOrComment : functionBodyBlockNode.statementsWithComments()) {
+            cancellationToken.checkCanceled();
             statementOrComment.accept(this);
         }
     }
@@ -489,7 +533,8 @@ class CodeAnalyzer extends NodeVisitor {
                 .functionSymbol(functionSymbol)
                 .semanticModel(semanticModel)
                 .userModuleInfo(moduleInfo);
-        FunctionData functionData = functionDataBuilder.build();
+        FunctionData functionData = buildFunctionData(functionDataBuilder,
+                getFunctionDataKey(functionSymbol, objName, functionName, FunctionData.Kind.REMOTE, null));
 
         nodeBuilder
                 .symbolInfo(functionSymbol)
@@ -609,7 +654,9 @@ class CodeAnalyzer extends NodeVisitor {
                 .userModuleInfo(moduleInfo)
                 .resourcePath(resourcePathTemplate.resourcePathTemplate())
                 .functionResultKind(FunctionData.Kind.RESOURCE);
-        FunctionData functionData = functionDataBuilder.build();
+        FunctionData functionData = buildFunctionData(functionDataBuilder,
+                getFunctionDataKey(functionSymbol, classSymbol.get().getName().orElse(""), functionName,
+                        FunctionData.Kind.RESOURCE, resourcePathTemplate.resourcePathTemplate()));
 
         nodeBuilder.symbolInfo(functionSymbol)
                 .metadata()
@@ -1240,13 +1287,16 @@ class CodeAnalyzer extends NodeVisitor {
                 .userModuleInfo(moduleInfo);
 
         FunctionData functionData;
+        String className = classSymbol.getName().orElse("");
         if (optMethodSymbol.isPresent()) {
             MethodSymbol methodSymbol = optMethodSymbol.get();
             functionDataBuilder.functionSymbol(methodSymbol);
-            functionData = functionDataBuilder.build();
+            functionData = buildFunctionData(functionDataBuilder, getFunctionDataKey(methodSymbol, className,
+                    NewConnectionBuilder.INIT_SYMBOL, FunctionData.Kind.CONNECTOR, null));
             processFunctionSymbol(newExpressionNode, argumentNodes, methodSymbol, functionData);
         } else {
-            functionData = functionDataBuilder.build();
+            functionData = buildFunctionData(functionDataBuilder, getFunctionDataKey(classSymbol, className,
+                    NewConnectionBuilder.INIT_SYMBOL, FunctionData.Kind.CONNECTOR, null));
         }
 
         String org = functionData.org();
@@ -1505,7 +1555,8 @@ class CodeAnalyzer extends NodeVisitor {
                         .functionSymbol(functionSymbol)
                         .semanticModel(semanticModel)
                         .userModuleInfo(moduleInfo);
-        FunctionData functionData = functionDataBuilder.build();
+        FunctionData functionData = buildFunctionData(functionDataBuilder, getFunctionDataKey(functionSymbol,
+                classSymbol.get().getName().orElse(""), functionName, FunctionData.Kind.FUNCTION, null));
 
         nodeBuilder
                 .symbolInfo(functionSymbol)
@@ -1561,7 +1612,8 @@ class CodeAnalyzer extends NodeVisitor {
                         .functionSymbol(functionSymbol)
                         .semanticModel(semanticModel)
                         .userModuleInfo(moduleInfo);
-        FunctionData functionData = functionDataBuilder.build();
+        FunctionData functionData = buildFunctionData(functionDataBuilder,
+                getFunctionDataKey(functionSymbol, "", functionName, FunctionData.Kind.FUNCTION, null));
 
         processFunctionSymbol(functionCallExpressionNode, functionCallExpressionNode.arguments(), functionSymbol,
                 functionData);
@@ -2155,6 +2207,7 @@ class CodeAnalyzer extends NodeVisitor {
 
     private void analyzeBlock(BlockStatementNode blockStatement, Branch.Builder branchBuilder) {
         for (Node statementOrComment : blockStatement.statementsWithComments()) {
+            cancellationToken.checkCanceled();
             statementOrComment.accept(this);
             branchBuilder.node(buildNode());
         }
@@ -2249,10 +2302,46 @@ class CodeAnalyzer extends NodeVisitor {
         return typeSymbol.subtypeOf(rawTemplateTypeDesc);
     }
 
+    /**
+     * Returns the function data built by the given builder, reusing the function data built for a previous call site
+     * of the same symbol in this analysis.
+     *
+     * @param functionDataBuilder the builder configured for the call site
+     * @param key                 the key identifying the invoked symbol
+     * @return the function data of the invoked symbol
+     */
+    private FunctionData buildFunctionData(FunctionDataBuilder functionDataBuilder, String key) {
+        FunctionData functionData = functionDataMemo.get(key);
+        if (functionData != null) {
+            functionDataHits++;
+            return functionData;
+        }
+        functionDataMisses++;
+        functionData = functionDataBuilder.build();
+        functionDataMemo.put(key, functionData);
+        return functionData;
+    }
+
+    private static String getFunctionDataKey(Symbol symbol, String parentName, String name, FunctionData.Kind kind,
+                                             String resourcePath) {
+        String moduleId = symbol.getModule()
+                .map(module -> module.id().orgName() + "/" + module.id().moduleName() + ":" + module.id().version())
+                .orElse("");
+        return String.join(":", moduleId, parentName, name, kind.name(), resourcePath == null ? "" : resourcePath);
+    }
+
     public List<FlowNode> getFlowNodes() {
         return flowNodeList;
     }
 
+    int functionDataHits() {
+        return functionDataHits;
+    }
+
+    int functionDataMisses() {
+        return functionDataMisses;
+    }
+
     private record CommentMetadata(String comment, LineRange position) {
 
     }
@@ -73,7 +73,7 @@ import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.DefaultValueGeneratorUtil;
-import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.ProjectForkPool;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -162,49 +162,46 @@ public class DataMapManager {
     public JsonElement getMappings(JsonElement node, LinePosition position, String propertyKey, Path filePath,
                                    String targetField, Project project) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
-        SourceModification modification;
-        if (flowNode.codedata().node() == NodeKind.NEW_CONNECTION) {
-            modification = applyConnection(flowNode, project, filePath);
-        } else {
-            modification = applyNode(flowNode, project, filePath, position);
-        }
-        SemanticModel newSemanticModel = modification.semanticModel();
-        List<MappingPort> inputPorts = getInputPorts(newSemanticModel, modification.document(), position);
-        inputPorts.sort(Comparator.comparing(mt -> mt.id));
-
-        TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(),
-                propertyKey, newSemanticModel);
-        if (targetNode == null) {
-            return null;
-        }
+        try (SourceModification modification = flowNode.codedata().node() == NodeKind.NEW_CONNECTION ?
+                applyConnection(flowNode, project, filePath) : applyNode(flowNode, project, filePath, position)) {
+            SemanticModel newSemanticModel = modification.semanticModel();
+            List<MappingPort> inputPorts = getInputPorts(newSemanticModel, modification.document(), position);
+            inputPorts.sort(Comparator.comparing(mt -> mt.id));
+
+            TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(),
+                    propertyKey, newSemanticModel);
+            if (targetNode == null) {
+                return null;
+            }
 
-        Type type;
-        ExpressionNode expressionNode = targetNode.expressionNode();
-        if (expressionNode != null && targetNode.expressionNode().kind() == SyntaxKind.QUERY_EXPRESSION) {
-            FromClauseNode fromClauseNode =
-                    ((QueryExpressionNode) targetNode.expressionNode()).queryPipeline().fromClause();
-            Optional<TypeSymbol> typeSymbol = newSemanticModel.typeOf(fromClauseNode.expression());
-            if (typeSymbol.isPresent() && typeSymbol.get().typeKind() == TypeDescKind.ARRAY) {
-                String fromClauseVar = fromClauseNode.typedBindingPattern().bindingPattern().toSourceCode().trim();
-                inputPorts.add(getMappingPort(fromClauseVar, fromClauseVar,
-                        Type.fromSemanticSymbol(((ArrayTypeSymbol) typeSymbol.get()).memberTypeDescriptor())));
+            Type type;
+            ExpressionNode expressionNode = targetNode.expressionNode();
+            if (expressionNode != null && targetNode.expressionNode().kind() == SyntaxKind.QUERY_EXPRESSION) {
+                FromClauseNode fromClauseNode =
+                        ((QueryExpressionNode) targetNode.expressionNode()).queryPipeline().fromClause();
+                Optional<TypeSymbol> typeSymbol = newSemanticModel.typeOf(fromClauseNode.expression());
+                if (typeSymbol.isPresent() && typeSymbol.get().typeKind() == TypeDescKind.ARRAY) {
+                    String fromClauseVar = fromClauseNode.typedBindingPattern().bindingPattern().toSourceCode().trim();
+                    inputPorts.add(getMappingPort(fromClauseVar, fromClauseVar,
+                            Type.fromSemanticSymbol(((ArrayTypeSymbol) typeSymbol.get()).memberTypeDescriptor())));
+                }
+                type = Type.fromSemanticSymbol(((ArrayTypeSymbol) targetNode.typeSymbol()).memberTypeDescriptor());
+            } else {
+                type = Type.fromSemanticSymbol(targetNode.typeSymbol());
             }
-            type = Type.fromSemanticSymbol(((ArrayTypeSymbol) targetNode.typeSymbol()).memberTypeDescriptor());
-        } else {
-            type = Type.fromSemanticSymbol(targetNode.typeSymbol());
-        }
-        String name = targetNode.name();
-        MappingPort outputPort = getMappingPort(name, name, type);
-        List<Mapping> mappings = new ArrayList<>();
-        if (expressionNode != null) {
-            TypeDescKind typeDescKind = CommonUtils.getRawType(targetNode.typeSymbol()).typeKind();
-            if (typeDescKind == TypeDescKind.RECORD) {
-                generateRecordVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
-            } else if (typeDescKind == TypeDescKind.ARRAY) {
-                generateArrayVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
+            String name = targetNode.name();
+            MappingPort outputPort = getMappingPort(name, name, type);
+            List<Mapping> mappings = new ArrayList<>();
+            if (expressionNode != null) {
+                TypeDescKind typeDescKind = CommonUtils.getRawType(targetNode.typeSymbol()).typeKind();
+                if (typeDescKind == TypeDescKind.RECORD) {
+                    generateRecordVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
+                } else if (typeDescKind == TypeDescKind.ARRAY) {
+                    generateArrayVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
+                }
             }
+            return gson.toJsonTree(new Model(inputPorts, outputPort, mappings));
         }
-        return gson.toJsonTree(new Model(inputPorts, outputPort, mappings));
     }
 
     private TargetNode getTargetNode(Node parentNode, String targetField, NodeKind nodeKind, String propertyKey,
@@ -810,37 +807,37 @@ public class DataMapManager {
     public String getQuery(JsonElement fNode, String targetField, Path filePath, LinePosition position,
                            Project project) {
         FlowNode flowNode = gson.fromJson(fNode, FlowNode.class);
-        SourceModification modification = applyNode(flowNode, project, filePath, position);
-
-        TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(), null,
-                modification.semanticModel());
-        if (targetNode == null) {
-            return "";
-        }
+        try (SourceModification modification = applyNode(flowNode, project, filePath, position)) {
+            TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(), null,
+                    modification.semanticModel());
+            if (targetNode == null) {
+                return "";
+            }
 
-        TypeSymbol targetTypeSymbol = CommonUtils.getRawType(targetNode.typeSymbol());
-        if (targetTypeSymbol.typeKind() != TypeDescKind.ARRAY) {
-            return "";
-        }
-        TypeSymbol typeSymbol = CommonUtils.getRawType(((ArrayTypeSymbol) targetTypeSymbol).memberTypeDescriptor());
-        if (typeSymbol.typeKind() != TypeDescKind.RECORD) {
-            return "";
-        }
+            TypeSymbol targetTypeSymbol = CommonUtils.getRawType(targetNode.typeSymbol());
+            if (targetTypeSymbol.typeKind() != TypeDescKind.ARRAY) {
+                return "";
+            }
+            TypeSymbol typeSymbol = CommonUtils.getRawType(((ArrayTypeSymbol) targetTypeSymbol).memberTypeDescriptor());
+            if (typeSymbol.typeKind() != TypeDescKind.RECORD) {
+                return "";
+            }
 
-        String query = getQuerySource(targetNode.expressionNode(), (RecordTypeSymbol) typeSymbol);
-        if (targetField == null) {
-            return query;
-        }
-        if (flowNode.codedata().node() != NodeKind.VARIABLE) {
-            return query;
-        }
-        Optional<Property> optProperty = flowNode.getProperty(Property.EXPRESSION_KEY);
-        if (optProperty.isEmpty()) {
-            return query;
+            String query = getQuerySource(targetNode.expressionNode(), (RecordTypeSymbol) typeSymbol);
+            if (targetField == null) {
+                return query;
+            }
+            if (flowNode.codedata().node() != NodeKind.VARIABLE) {
+                return query;
+            }
+            Optional<Property> optProperty = flowNode.getProperty(Property.EXPRESSION_KEY);
+            if (optProperty.isEmpty()) {
+                return query;
+            }
+            Property property = optProperty.get();
+            String expr = property.toSourceCode();
+            return expr.replace(targetNode.expressionNode().toSourceCode(), query);
         }
-        Property property = optProperty.get();
-        String expr = property.toSourceCode();
-        return expr.replace(targetNode.expressionNode().toSourceCode(), query);
     }
 
     private SourceModification applyNode(FlowNode flowNode, Project project, Path filePath, LinePosition position) {
@@ -854,20 +851,21 @@ public class DataMapManager {
                         0), source);
         io.ballerina.tools.text.TextEdit[] textEdits = {textEdit};
         TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
-        LinePosition startLine = modifiedTextDoc.linePositionFrom(startTextPosition);
-        LinePosition endLine = modifiedTextDoc.linePositionFrom(startTextPosition + source.length());
-        Range range = new Range(new Position(startLine.line(), startLine.offset()),
-                new Position(endLine.line(), endLine.offset()));
-        NonTerminalNode stNode = CommonUtil.findNode(range, modifiedDoc.syntaxTree());
-
-        return new SourceModification(source, modifiedDoc, newSemanticModel, stNode);
+        ProjectForkPool.Fork fork = ProjectForkPool.getInstance().acquire(project);
+        try {
+            Document modifiedDoc = fork.apply(document.documentId(),
+                    String.join(System.lineSeparator(), modifiedTextDoc.textLines()));
+            SemanticModel newSemanticModel = fork.semanticModel(modifiedDoc.module().moduleId());
+            LinePosition startLine = modifiedTextDoc.linePositionFrom(startTextPosition);
+            LinePosition endLine = modifiedTextDoc.linePositionFrom(startTextPosition + source.length());
+            Range range = new Range(new Position(startLine.line(), startLine.offset()),
+                    new Position(endLine.line(), endLine.offset()));
+            NonTerminalNode stNode = CommonUtil.findNode(range, modifiedDoc.syntaxTree());
+            return new SourceModification(source, modifiedDoc, newSemanticModel, stNode, fork);
+        } catch (RuntimeException e) {
+            fork.close();
+            throw e;
+        }
     }
 
     private SourceModification applyConnection(FlowNode flowNode, Project project, Path filePath) {
@@ -890,20 +888,20 @@ public class DataMapManager {
                             endTextPosition - startTextPosition), connectionTextEdit.getNewText());
             textEdits[i] = textEdit;
         }
-        TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
         Optional<Property> optVariable = flowNode.getProperty("variable");
         if (optVariable.isEmpty()) {
             throw new IllegalStateException("Variable cannot be found for the connection");
         }
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
-        return new SourceModification("", modifiedDoc, newSemanticModel, connectionNode(modifiedDoc,
-                optVariable.get().toSourceCode()));
+        ProjectForkPool.Fork fork = ProjectForkPool.getInstance().acquire(project);
+        try {
+            Document modifiedDoc = fork.apply(document.documentId(), textEdits);
+            SemanticModel newSemanticModel = fork.semanticModel(modifiedDoc.module().moduleId());
+            return new SourceModification("", modifiedDoc, newSemanticModel, connectionNode(modifiedDoc,
+                    optVariable.get().toSourceCode()), fork);
+        } catch (RuntimeException e) {
+            fork.close();
+            throw e;
+        }
     }
 
     private Node connectionNode(Document document, String connectionName) {
@@ -920,7 +918,17 @@ public class DataMapManager {
         return null;
     }
 
-    private record SourceModification(String source, Document document, SemanticModel semanticModel, Node stNode) {
+    /**
+     * Represents a node applied on a fork of the project. The fork is returned to the pool when this is closed, hence
+     * the document and the semantic model should not be used afterwards.
+     */
+    private record SourceModification(String source, Document document, SemanticModel semanticModel, Node stNode,
+                                      ProjectForkPool.Fork fork) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            fork.close();
+        }
     }
 
     private String getQuerySource(NonTerminalNode inputExpr, RecordTypeSymbol recordTypeSymbol) {
@@ -952,51 +960,53 @@ public class DataMapManager {
         List<String> visualizableProperties = new ArrayList<>();
         NodeKind nodeKind = flowNode.codedata().node();
         if (nodeKind == NodeKind.VARIABLE) {
-            SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
-            Node stNode = sourceModification.stNode();
-            if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
-                throw new IllegalStateException("Node is not a variable declaration");
-            }
-            Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
-            if (optVarSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the variable declaration");
-            }
-            VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
-            if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
-                visualizableProperties.add("expression");
+            try (SourceModification sourceModification = applyNode(flowNode, project, filePath, position)) {
+                Node stNode = sourceModification.stNode();
+                if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+                    throw new IllegalStateException("Node is not a variable declaration");
+                }
+                Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
+                if (optVarSymbol.isEmpty()) {
+                    throw new IllegalStateException("Symbol cannot be found for the variable declaration");
+                }
+                VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
+                if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
+                    visualizableProperties.add("expression");
+                }
             }
         } else if (nodeKind == NodeKind.NEW_CONNECTION) {
-            SourceModification sourceModification = applyConnection(flowNode, project, filePath);
-            Optional<Property> optVariable = flowNode.getProperty("variable");
-            if (optVariable.isEmpty()) {
-                throw new IllegalStateException("Variable cannot be found for the connection");
-            }
-            List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
-            String variableName = optVariable.get().toSourceCode();
-            Optional<Symbol> optVariableSymbol = symbols.parallelStream()
-                    .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
-                    .findAny();
-            if (optVariableSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the connection variable");
-            }
+            try (SourceModification sourceModification = applyConnection(flowNode, project, filePath)) {
+                Optional<Property> optVariable = flowNode.getProperty("variable");
+                if (optVariable.isEmpty()) {
+                    throw new IllegalStateException("Variable cannot be found for the connection");
+                }
+                List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
+                String variableName = optVariable.get().toSourceCode();
+                Optional<Symbol> optVariableSymbol = symbols.parallelStream()
+                        .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
+                        .findAny();
+                if (optVariableSymbol.isEmpty()) {
+                    throw new IllegalStateException("Symbol cannot be found for the connection variable");
+                }
 
-            VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
-            TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
-            if (typeSymbol.kind() != SymbolKind.CLASS) {
-                throw new IllegalStateException("Connection symbol is not a class symbol");
-            }
-            ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
-            Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
-            if (optInitMethodSymbol.isEmpty()) {
-                throw new IllegalStateException("Init method cannot be found for the connection class");
-            }
-            MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
-            Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
-            if (optParams.isPresent()) {
-                List<ParameterSymbol> params = optParams.get();
-                for (ParameterSymbol param : params) {
-                    if (isEffectiveRecordType(param.typeDescriptor())) {
-                        visualizableProperties.add(param.getName().get());
+                VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
+                TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
+                if (typeSymbol.kind() != SymbolKind.CLASS) {
+                    throw new IllegalStateException("Connection symbol is not a class symbol");
+                }
+                ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
+                Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
+                if (optInitMethodSymbol.isEmpty()) {
+                    throw new IllegalStateException("Init method cannot be found for the connection class");
+                }
+                MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
+                Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
+                if (optParams.isPresent()) {
+                    List<ParameterSymbol> params = optParams.get();
+                    for (ParameterSymbol param : params) {
+                        if (isEffectiveRecordType(param.typeDescriptor())) {
+                            visualizableProperties.add(param.getName().get());
+                        }
                     }
                 }
             }
@@ -1026,42 +1036,43 @@ public class DataMapManager {
         Property property = optProperty.get();
         String source = property.toSourceCode();
 
-        SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
-        Node stNode = sourceModification.stNode();
-        if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
-            return "";
-        }
-        Optional<Symbol> symbol = sourceModification.semanticModel().symbol(stNode);
-        if (symbol.isEmpty()) {
-            return "";
-        }
-        TypeSymbol targetType = getTargetType(((VariableSymbol) symbol.get()).typeDescriptor(), targetField);
-        if (targetType == null) {
-            return "";
-        }
-        if (targetType.typeKind() == TypeDescKind.ARRAY) {
-            targetType = ((ArrayTypeSymbol) targetType).memberTypeDescriptor();
-        }
-        String defaultVal = DefaultValueGeneratorUtil.getDefaultValueForType(targetType);
-        if (source.equals("[]")) {
-            return "[" + defaultVal + "]";
-        }
-        VariableDeclarationNode varDeclNode = (VariableDeclarationNode) stNode;
-        if (varDeclNode.initializer().isEmpty()) {
-            return source;
-        }
-        ExpressionNode initializer = varDeclNode.initializer().get();
-        ExpressionNode expr = getArrayExpr(targetField, initializer);
-        if (expr == null || expr.kind() != SyntaxKind.LIST_CONSTRUCTOR) {
-            return source;
-        }
-        ListConstructorExpressionNode listCtrExpr = (ListConstructorExpressionNode) expr;
-        if (!listCtrExpr.expressions().isEmpty()) {
-            defaultVal = ", " + defaultVal;
+        try (SourceModification sourceModification = applyNode(flowNode, project, filePath, position)) {
+            Node stNode = sourceModification.stNode();
+            if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+                return "";
+            }
+            Optional<Symbol> symbol = sourceModification.semanticModel().symbol(stNode);
+            if (symbol.isEmpty()) {
+                return "";
+            }
+            TypeSymbol targetType = getTargetType(((VariableSymbol) symbol.get()).typeDescriptor(), targetField);
+            if (targetType == null) {
+                return "";
+            }
+            if (targetType.typeKind() == TypeDescKind.ARRAY) {
+                targetType = ((ArrayTypeSymbol) targetType).memberTypeDescriptor();
+            }
+            String defaultVal = DefaultValueGeneratorUtil.getDefaultValueForType(targetType);
+            if (source.equals("[]")) {
+                return "[" + defaultVal + "]";
+            }
+            VariableDeclarationNode varDeclNode = (VariableDeclarationNode) stNode;
+            if (varDeclNode.initializer().isEmpty()) {
+                return source;
+            }
+            ExpressionNode initializer = varDeclNode.initializer().get();
+            ExpressionNode expr = getArrayExpr(targetField, initializer);
+            if (expr == null || expr.kind() != SyntaxKind.LIST_CONSTRUCTOR) {
+                return source;
+            }
+            ListConstructorExpressionNode listCtrExpr = (ListConstructorExpressionNode) expr;
+            if (!listCtrExpr.expressions().isEmpty()) {
+                defaultVal = ", " + defaultVal;
+            }
+            int pos = listCtrExpr.closeBracket().position() - initializer.position();
+            source = initializer.toSourceCode();
+            return source.substring(0, pos) + defaultVal + source.substring(pos);
         }
-        int pos = listCtrExpr.closeBracket().position() - initializer.position();
-        source = initializer.toSourceCode();
-        return source.substring(0, pos) + defaultVal + source.substring(pos);
     }
 
     private ExpressionNode getArrayExpr(String targetField, ExpressionNode expr) {
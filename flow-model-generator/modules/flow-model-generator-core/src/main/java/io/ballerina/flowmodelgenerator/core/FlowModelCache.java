@@ -0,0 +1,309 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.CommentNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caches the flow nodes generated for a canvas, so that a subsequent request for the same canvas only re-analyzes the
+ * statements that have changed.
+ *
+ * <p>
+ * An entry is keyed by the document and the start line of the canvas. It is only reused when the source outside the
+ * function body and the other documents of the package are unchanged. Within the canvas, the flow nodes of a top-level
+ * statement are reused when its source, line range and diagnostics are unchanged, and it does not refer to a variable
+ * whose declaration has changed. The start event, the comments and the remaining statements are analyzed again.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class FlowModelCache {
+
+    private static final int MAX_ENTRIES = 16;
+
+    private final Map<String, Entry> entries;
+
+    private static class Holder {
+
+        private static final FlowModelCache INSTANCE = new FlowModelCache();
+    }
+
+    static FlowModelCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private FlowModelCache() {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Checks whether the flow model of the given canvas can be generated incrementally. Only function bodies without
+     * named workers are analyzed statement by statement.
+     *
+     * @param canvasNode the node representing the canvas
+     * @return true if the canvas can be analyzed incrementally
+     */
+    static boolean isSupported(NonTerminalNode canvasNode) {
+        return canvasNode instanceof FunctionDefinitionNode functionDefinitionNode &&
+                functionDefinitionNode.functionBody() instanceof FunctionBodyBlockNode functionBodyBlockNode &&
+                functionBodyBlockNode.namedWorkerDeclarator().isEmpty();
+    }
+
+    /**
+     * Analyzes the given function with the code analyzer, reusing the flow nodes of the unchanged statements from the
+     * previous analysis of the same canvas.
+     *
+     * @param document            the document containing the canvas
+     * @param functionNode        the function representing the canvas
+     * @param semanticModel       the semantic model of the module
+     * @param codeAnalyzer        the code analyzer to generate the flow nodes with
+     * @param connectionsSupplier the supplier of the module connections, called only if the context has changed
+     * @return the module connections visible to the canvas
+     */
+    List<FlowNode> analyze(Document document, FunctionDefinitionNode functionNode, SemanticModel semanticModel,
+                           CodeAnalyzer codeAnalyzer, Supplier<List<FlowNode>> connectionsSupplier) {
+        String key = getKey(document, functionNode);
+        Context context = Context.from(document, functionNode.functionBody());
+        Entry previousEntry;
+        synchronized (entries) {
+            previousEntry = entries.get(key);
+        }
+        if (previousEntry != null && !previousEntry.context().matches(context)) {
+            previousEntry = null;
+        }
+        List<FlowNode> moduleConnections =
+                previousEntry == null ? connectionsSupplier.get() : previousEntry.moduleConnections();
+
+        if (!codeAnalyzer.analyzeFunctionSignature(functionNode)) {
+            return moduleConnections;
+        }
+
+        // Index the previously analyzed statements by their line ranges
+        Map<LineRange, StatementEntry> previousStatements = new HashMap<>();
+        if (previousEntry != null) {
+            for (StatementEntry statement : previousEntry.statements()) {
+                previousStatements.put(statement.lineRange(), statement);
+            }
+        }
+
+        List<Diagnostic> diagnostics = getDiagnostics(semanticModel, functionNode.lineRange().fileName());
+        Set<String> changedDeclarations = new HashSet<>();
+        List<Node> statementsWithComments = new ArrayList<>();
+        Map<LineRange, StatementEntry> candidates = new HashMap<>();
+        for (Node statementOrComment : ((FunctionBodyBlockNode) functionNode.functionBody()).statementsWithComments()) {
+            statementsWithComments.add(statementOrComment);
+            if (statementOrComment instanceof CommentNode) {
+                continue;
+            }
+            StatementEntry previous = previousStatements.get(statementOrComment.lineRange());
+            if (previous != null && previous.source().equals(statementOrComment.toSourceCode()) &&
+                    previous.diagnostics().equals(getDiagnosticsKey(diagnostics, statementOrComment))) {
+                candidates.put(previous.lineRange(), previous);
+                previousStatements.remove(previous.lineRange());
+            }
+        }
+        // The declarations of the modified and removed statements may no longer be visible to the statements after them
+        previousStatements.values().forEach(statement -> changedDeclarations.addAll(statement.declarations()));
+
+        List<StatementEntry> statements = new ArrayList<>();
+        for (Node statementOrComment : statementsWithComments) {
+            if (statementOrComment instanceof CommentNode) {
+                codeAnalyzer.analyzeStatement(statementOrComment);
+                continue;
+            }
+
+            StatementEntry candidate = candidates.get(statementOrComment.lineRange());
+            if (candidate != null && disjoint(candidate.references(), changedDeclarations)) {
+                codeAnalyzer.addFlowNodes(candidate.flowNodes());
+                statements.add(candidate);
+                continue;
+            }
+
+            NameCollector nameCollector = new NameCollector();
+            statementOrComment.accept(nameCollector);
+            List<FlowNode> flowNodes = codeAnalyzer.analyzeStatement(statementOrComment);
+            changedDeclarations.addAll(nameCollector.declarations);
+            statements.add(new StatementEntry(statementOrComment.lineRange(), statementOrComment.toSourceCode(),
+                    getDiagnosticsKey(diagnostics, statementOrComment), nameCollector.declarations,
+                    nameCollector.references, flowNodes));
+        }
+
+        synchronized (entries) {
+            entries.put(key, new Entry(context, moduleConnections, statements));
+        }
+        return moduleConnections;
+    }
+
+    /**
+     * Removes all the cached flow models.
+     */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static String getKey(Document document, FunctionDefinitionNode functionNode) {
+        LinePosition startLine = functionNode.lineRange().startLine();
+        return String.format("%s:%s:%d", document.module().moduleId(), document.name(), startLine.line());
+    }
+
+    private static List<Diagnostic> getDiagnostics(SemanticModel semanticModel, String fileName) {
+        return semanticModel.diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR &&
+                        diagnostic.location().lineRange().fileName().equals(fileName))
+                .toList();
+    }
+
+    private static String getDiagnosticsKey(List<Diagnostic> diagnostics, Node node) {
+        TextRange textRange = node.textRange();
+        StringBuilder key = new StringBuilder();
+        for (Diagnostic diagnostic : diagnostics) {
+            TextRange diagnosticRange = diagnostic.location().textRange();
+            if (diagnosticRange.startOffset() <= textRange.endOffset() &&
+                    diagnosticRange.endOffset() >= textRange.startOffset()) {
+                key.append(diagnostic.location().lineRange()).append(diagnostic.message()).append('\n');
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean disjoint(Set<String> names, Set<String> otherNames) {
+        if (otherNames.isEmpty()) {
+            return true;
+        }
+        for (String name : names) {
+            if (otherNames.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Represents everything outside the function body that the generated flow nodes depend on.
+     *
+     * @param prefix      the source of the document before the function body, including the function signature
+     * @param suffix      the source of the document after the function body
+     * @param syntaxTrees the syntax trees of the other documents in the package
+     */
+    private record Context(String prefix, String suffix, List<SyntaxTree> syntaxTrees) {
+
+        private static Context from(Document document, Node functionBodyNode) {
+            String source = document.textDocument().toString();
+            TextRange textRange = functionBodyNode.textRangeWithMinutiae();
+            List<SyntaxTree> syntaxTrees = new ArrayList<>();
+            for (Module module : document.module().packageInstance().modules()) {
+                for (DocumentId documentId : module.documentIds()) {
+                    if (!documentId.equals(document.documentId())) {
+                        syntaxTrees.add(module.document(documentId).syntaxTree());
+                    }
+                }
+            }
+            return new Context(source.substring(0, textRange.startOffset()),
+                    source.substring(textRange.endOffset()), syntaxTrees);
+        }
+
+        /**
+         * Syntax trees are retained by the package for the unchanged documents, hence they are compared by identity.
+         */
+        private boolean matches(Context other) {
+            if (!prefix.equals(other.prefix) || !suffix.equals(other.suffix) ||
+                    syntaxTrees.size() != other.syntaxTrees.size()) {
+                return false;
+            }
+            for (int i = 0; i < syntaxTrees.size(); i++) {
+                if (syntaxTrees.get(i) != other.syntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Entry(Context context, List<FlowNode> moduleConnections, List<StatementEntry> statements) {
+
+    }
+
+    /**
+     * Represents the flow nodes generated for a top-level statement of the canvas.
+     *
+     * @param lineRange    the line range of the statement
+     * @param source       the source code of the statement
+     * @param diagnostics  the key of the diagnostics reported within the statement
+     * @param declarations the names of the variables declared by the statement
+     * @param references   the names referred to by the statement
+     * @param flowNodes    the flow nodes generated for the statement
+     */
+    private record StatementEntry(LineRange lineRange, String source, String diagnostics, Set<String> declarations,
+                                  Set<String> references, List<FlowNode> flowNodes) {
+
+    }
+
+    /**
+     * Collects the names of the variables declared and referred to within a statement.
+     */
+    private static class NameCollector extends NodeVisitor {
+
+        private final Set<String> declarations = new HashSet<>();
+        private final Set<String> references = new HashSet<>();
+
+        @Override
+        public void visit(CaptureBindingPatternNode captureBindingPatternNode) {
+            declarations.add(captureBindingPatternNode.variableName().text());
+        }
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            references.add(simpleNameReferenceNode.name().text());
+        }
+    }
+}
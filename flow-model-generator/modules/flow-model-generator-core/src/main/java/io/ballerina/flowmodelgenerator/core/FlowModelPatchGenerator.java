@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates structural patches between consecutive flow models of the same canvas.
+ *
+ * <p>
+ * The last flow model sent for a canvas is retained along with a version. When a client sends back the version of the
+ * model it holds, and it is the retained one, the patch only contains the top-level nodes that are added or changed,
+ * the ids of the removed nodes and the new order of the node ids. The module connections are only included when they
+ * have changed. Otherwise, the full flow model is sent.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FlowModelPatchGenerator {
+
+    private static final int MAX_ENTRIES = 32;
+
+    private static final String NODES_KEY = "nodes";
+    private static final String CONNECTIONS_KEY = "connections";
+    private static final String FILE_NAME_KEY = "fileName";
+    private static final String ID_KEY = "id";
+    private static final String BASE_VERSION_KEY = "baseVersion";
+    private static final String ORDER_KEY = "order";
+    private static final String ADDED_KEY = "added";
+    private static final String CHANGED_KEY = "changed";
+    private static final String REMOVED_KEY = "removed";
+
+    private final Map<String, Snapshot> snapshots;
+    private final AtomicLong versionCounter;
+
+    private static class Holder {
+
+        private static final FlowModelPatchGenerator INSTANCE = new FlowModelPatchGenerator();
+    }
+
+    public static FlowModelPatchGenerator getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private FlowModelPatchGenerator() {
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.versionCounter = new AtomicLong();
+    }
+
+    /**
+     * Retains the given flow model as the latest one of the canvas, and generates a patch from the model held by the
+     * client if its version is the one retained.
+     *
+     * @param lineRange   the line range of the canvas
+     * @param flowModel   the JSON representation of the flow model
+     * @param baseVersion the version of the flow model held by the client, or null if it does not hold one
+     * @return the version of the given flow model, along with the patch if one can be generated
+     */
+    public Result generate(LineRange lineRange, JsonElement flowModel, String baseVersion) {
+        String key = lineRange.fileName() + ":" + lineRange.startLine().line();
+        Snapshot snapshot = Snapshot.from(String.valueOf(versionCounter.incrementAndGet()), flowModel);
+
+        Snapshot previous;
+        synchronized (snapshots) {
+            previous = snapshots.get(key);
+            if (snapshot != null) {
+                snapshots.put(key, snapshot);
+            } else {
+                snapshots.remove(key);
+            }
+        }
+        if (snapshot == null) {
+            return new Result(null, null);
+        }
+        if (previous == null || baseVersion == null || !previous.version().equals(baseVersion)) {
+            return new Result(snapshot.version(), null);
+        }
+        return new Result(snapshot.version(), generatePatch(previous, snapshot));
+    }
+
+    private static JsonObject generatePatch(Snapshot previous, Snapshot current) {
+        JsonArray added = new JsonArray();
+        JsonArray changed = new JsonArray();
+        JsonArray order = new JsonArray();
+        for (Map.Entry<String, JsonElement> node : current.nodes().entrySet()) {
+            order.add(node.getKey());
+            JsonElement previousNode = previous.nodes().get(node.getKey());
+            if (previousNode == null) {
+                added.add(node.getValue());
+            } else if (!previousNode.equals(node.getValue())) {
+                changed.add(node.getValue());
+            }
+        }
+        JsonArray removed = new JsonArray();
+        for (String id : previous.nodes().keySet()) {
+            if (!current.nodes().containsKey(id)) {
+                removed.add(id);
+            }
+        }
+
+        JsonObject patch = new JsonObject();
+        patch.add(FILE_NAME_KEY, current.fileName());
+        patch.addProperty(BASE_VERSION_KEY, previous.version());
+        patch.add(ORDER_KEY, order);
+        patch.add(ADDED_KEY, added);
+        patch.add(CHANGED_KEY, changed);
+        patch.add(REMOVED_KEY, removed);
+        if (!current.connections().equals(previous.connections())) {
+            patch.add(CONNECTIONS_KEY, current.connections());
+        }
+        return patch;
+    }
+
+    /**
+     * Represents a flow model retained for a canvas, with the top-level nodes indexed by their ids in order.
+     */
+    private record Snapshot(String version, JsonElement fileName, Map<String, JsonElement> nodes,
+                            JsonElement connections) {
+
+        /**
+         * Returns null if the flow model cannot be patched, which is the case when the node ids are not unique.
+         */
+        private static Snapshot from(String version, JsonElement flowModel) {
+            if (flowModel == null || !flowModel.isJsonObject()) {
+                return null;
+            }
+            JsonObject diagram = flowModel.getAsJsonObject();
+            JsonArray nodeArray = diagram.getAsJsonArray(NODES_KEY);
+            Map<String, JsonElement> nodes = new LinkedHashMap<>();
+            if (nodeArray != null) {
+                for (JsonElement node : nodeArray) {
+                    JsonElement id = node.getAsJsonObject().get(ID_KEY);
+                    if (id == null || nodes.put(id.getAsString(), node) != null) {
+                        return null;
+                    }
+                }
+            }
+            JsonElement connections = diagram.get(CONNECTIONS_KEY);
+            JsonElement fileName = diagram.has(FILE_NAME_KEY) ? diagram.get(FILE_NAME_KEY) : new JsonPrimitive("");
+            return new Snapshot(version, fileName, nodes, connections == null ? new JsonArray() : connections);
+        }
+    }
+
+    /**
+     * Represents the outcome of generating a patch.
+     *
+     * @param version the version of the generated flow model, or null if it cannot be patched in the future
+     * @param patch   the patch from the model held by the client, or null if the full model should be sent
+     */
+    public record Result(String version, JsonObject patch) {
+
+    }
+}
@@ -26,6 +26,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
@@ -41,8 +42,14 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * An implementation of the Central API using a local index.
@@ -52,8 +59,11 @@ import java.util.Map;
 public class LocalIndexCentral {
 
     private final Gson gson;
-    private Map<String, FlowNode> templateCache;
-    private Map<String, List<Item>> connectionMap;
+    private final Lazy<Map<String, String>> templateIndex;
+    private final Lazy<Map<String, List<Item>>> connectionMap;
+    private final Lazy<List<Item>> connectors;
+    private final Lazy<List<Item>> functions;
+    private final Lazy<ConnectorIndex> connectorIndex;
     private static final String NODE_TEMPLATES_JSON = "node_templates.json";
     private static final String CONNECTORS_JSON = "connectors.json";
     private static final String CONNECTIONS_JSON = "connections.json";
@@ -73,53 +83,54 @@ public class LocalIndexCentral {
                 .registerTypeAdapter(Item.class, new ItemDeserializer())
                 .registerTypeAdapter(Category.class, new CategoryDeserializer())
                 .create();
+        this.templateIndex = new Lazy<>(this::readTemplateIndex);
+        this.connectionMap = new Lazy<>(this::readConnectionMap);
+        this.connectors = new Lazy<>(() -> readCategory(CONNECTORS_JSON).items());
+        this.functions = new Lazy<>(() -> readCategory(FUNCTIONS_JSON).items());
+        this.connectorIndex = new Lazy<>(this::buildConnectorIndex);
     }
 
     public FlowNode getNodeTemplate(Codedata codedata) {
-        if (templateCache == null) {
-            initializeTemplateCache();
+        String template = templateIndex.get().get(codedata.toString());
+        if (template == null) {
+            return null;
         }
-        return templateCache.get(codedata.toString());
+        // Decode the template on each request, so that every caller receives its own copy
+        return gson.fromJson(template, FlowNode.class);
     }
 
     public List<Item> getConnectors() {
-        Category connectors = readJsonResource(CONNECTORS_JSON, Category.class);
-        return connectors.items();
+        return connectors.get();
     }
 
     public List<Item> getFunctions() {
-        Category functions = readJsonResource(FUNCTIONS_JSON, Category.class);
-        return functions.items();
+        return functions.get();
     }
 
     public List<Item> getConnectorActions(Codedata codedata) {
-        if (connectionMap == null) {
-            initializeConnectionMap();
-        }
-        return connectionMap.get(codedata.toString());
+        return connectionMap.get().get(codedata.toString());
     }
 
     public List<AvailableNode> getConnectors(Map<String, String> queryMap) {
-        List<Item> connectors = getConnectors();
-        String query = queryMap.getOrDefault("q", "");
+        String query = queryMap.getOrDefault("q", "").toLowerCase(Locale.ROOT);
         int limit = Integer.parseInt(queryMap.getOrDefault("limit", "10"));
         int offset = Integer.parseInt(queryMap.getOrDefault("offset", "0"));
 
-        List<AvailableNode> availableNodes = new ArrayList<>();
-        for (Item item : connectors) {
-            if (item instanceof Category) {
-                availableNodes.addAll(getAvailableNodesFromCategory((Category) item));
-            } else if (item instanceof AvailableNode) {
-                availableNodes.add((AvailableNode) item);
+        return connectorIndex.get().search(query, offset, limit);
+    }
+
+    private ConnectorIndex buildConnectorIndex() {
+        List<AvailableNode> nodes = new ArrayList<>();
+        for (Item item : getConnectors()) {
+            if (item instanceof Category category) {
+                nodes.addAll(getAvailableNodesFromCategory(category));
+            } else if (item instanceof AvailableNode availableNode) {
+                nodes.add(availableNode);
             }
         }
-        return availableNodes.stream()
-                .filter(node -> node.codedata().object().contains(query) || node.codedata().module().contains(query))
-                .skip(offset)
-                .limit(limit)
-                .toList();
+        return ConnectorIndex.build(nodes);
     }
-    
+
     private List<AvailableNode> getAvailableNodesFromCategory(Category category) {
         List<AvailableNode> availableNodes = new ArrayList<>();
         for (Item item : category.items()) {
@@ -132,28 +143,186 @@ public class LocalIndexCentral {
         return availableNodes;
     }
 
-    private void initializeTemplateCache() {
-        templateCache = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+    /**
+     * Indexes the node templates by their codedata key without decoding them into flow nodes. Each template is kept
+     * as its compact JSON form and decoded only when it is requested.
+     *
+     * @return the compact JSON of each template keyed by the codedata key
+     */
+    private Map<String, String> readTemplateIndex() {
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(getResourceStream(NODE_TEMPLATES_JSON), StandardCharsets.UTF_8))) {
+            Map<String, String> templates = new HashMap<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                templates.put(key, JsonParser.parseReader(reader).toString());
+            }
+            reader.endObject();
+            return Collections.unmodifiableMap(templates);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Category readCategory(String resourcePath) {
+        Category category = readJsonResource(resourcePath, Category.class);
+        return freeze(category);
     }
 
-    private void initializeConnectionMap() {
-        connectionMap = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+    private Map<String, List<Item>> readConnectionMap() {
+        Map<String, List<Item>> connections = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+        Map<String, List<Item>> frozenConnections = new HashMap<>();
+        connections.forEach((key, items) -> frozenConnections.put(key, freeze(items)));
+        return Collections.unmodifiableMap(frozenConnections);
+    }
+
+    private static Category freeze(Category category) {
+        return new Category(category.metadata(), freeze(category.items()));
+    }
+
+    private static List<Item> freeze(List<Item> items) {
+        if (items == null) {
+            return null;
+        }
+        return items.stream()
+                .map(item -> item instanceof Category category ? freeze(category) : item)
+                .toList();
     }
 
     public  <T> T readJsonResource(String resourcePath, Type type) {
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(getResourceStream(resourcePath), StandardCharsets.UTF_8))) {
+            return gson.fromJson(reader, type);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private InputStream getResourceStream(String resourcePath) {
         InputStream resourceStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
         if (resourceStream == null) {
             throw new IllegalArgumentException("Resource not found: " + resourcePath);
         }
-        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
-            return gson.fromJson(reader, type);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        return resourceStream;
+    }
+
+    /**
+     * A substring index over the lowercase object and module names of the connectors.
+     *
+     * <p>
+     * Every suffix of the search keys of a connector is kept in a sorted array, so that the suffixes starting with a
+     * query, and hence the connectors containing it, are found with a binary search instead of scanning the keys of
+     * every connector. The matching connectors are returned in the order of the connector index.
+     * </p>
+     */
+    private static final class ConnectorIndex {
+
+        private final List<AvailableNode> nodes;
+        private final String[] suffixes;
+        private final int[] suffixNodes;
+
+        private ConnectorIndex(List<AvailableNode> nodes, String[] suffixes, int[] suffixNodes) {
+            this.nodes = nodes;
+            this.suffixes = suffixes;
+            this.suffixNodes = suffixNodes;
+        }
+
+        private static ConnectorIndex build(List<AvailableNode> nodes) {
+            List<Suffix> suffixList = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                Codedata codedata = nodes.get(i).codedata();
+                addSuffixes(suffixList, toLowerCase(codedata.object()), i);
+                addSuffixes(suffixList, toLowerCase(codedata.module()), i);
+            }
+            suffixList.sort(Comparator.comparing(Suffix::text));
+
+            String[] suffixes = new String[suffixList.size()];
+            int[] suffixNodes = new int[suffixList.size()];
+            for (int i = 0; i < suffixes.length; i++) {
+                suffixes[i] = suffixList.get(i).text();
+                suffixNodes[i] = suffixList.get(i).node();
+            }
+            return new ConnectorIndex(List.copyOf(nodes), suffixes, suffixNodes);
+        }
+
+        // Includes the empty suffix, so that every connector matches an empty query
+        private static void addSuffixes(List<Suffix> suffixList, String key, int node) {
+            for (int start = 0; start <= key.length(); start++) {
+                suffixList.add(new Suffix(key.substring(start), node));
+            }
+        }
+
+        private static String toLowerCase(String value) {
+            return value == null ? "" : value.toLowerCase(Locale.ROOT);
+        }
+
+        private List<AvailableNode> search(String query, int offset, int limit) {
+            BitSet matches = new BitSet(nodes.size());
+            for (int i = lowerBound(query); i < suffixes.length && suffixes[i].startsWith(query); i++) {
+                matches.set(suffixNodes[i]);
+            }
+
+            List<AvailableNode> results = new ArrayList<>();
+            int skipped = 0;
+            for (int node = matches.nextSetBit(0); node >= 0 && results.size() < limit;
+                 node = matches.nextSetBit(node + 1)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    results.add(nodes.get(node));
+                }
+            }
+            return results;
+        }
+
+        // Finds the first suffix that is not less than the query, as the same suffix may occur more than once
+        private int lowerBound(String query) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (suffixes[mid].compareTo(query) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private record Suffix(String text, int node) {
+
         }
     }
 
-    private static class FlowNodeTypeToken extends TypeToken<Map<String, FlowNode>> {
+    /**
+     * Lazily computes a value on the first access and publishes it safely to the other threads.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class Lazy<T> {
 
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        private Lazy(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = supplier.get();
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
     }
 
     private static class ConnectionTypeToken extends TypeToken<Map<String, List<Item>>> {
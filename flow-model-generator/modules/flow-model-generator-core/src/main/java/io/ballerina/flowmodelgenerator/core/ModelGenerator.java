@@ -71,6 +71,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
 /**
  * Generator for the flow model.
@@ -79,6 +80,9 @@ import java.util.function.Function;
  */
 public class ModelGenerator {
 
+    private static final Logger LOGGER = Logger.getLogger(ModelGenerator.class.getName());
+    private static final String VERIFY_INCREMENTAL_PROPERTY = "ballerina.flowmodel.verifyIncremental";
+
     private final SemanticModel semanticModel;
     private final Path filePath;
     private final Gson gson;
@@ -98,6 +102,19 @@ public class ModelGenerator {
      */
     public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
                                     Document functionsDoc) {
+        return getFlowModel(document, lineRange, dataMappingDoc, functionsDoc, false);
+    }
+
+    /**
+     * Generates a flow model for the given canvas node. In the incremental mode, the flow nodes of the statements that
+     * are unchanged since the previous request for the same canvas are reused, and the canvas is analyzed in full when
+     * it cannot be generated incrementally.
+     *
+     * @param incremental whether to reuse the flow nodes generated for the previous request
+     * @return JSON representation of the flow model
+     */
+    public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
+                                    Document functionsDoc, boolean incremental) {
         // Obtain the code block representing the canvas
         SyntaxTree syntaxTree = document.syntaxTree();
         ModulePartNode modulePartNode = syntaxTree.rootNode();
@@ -106,16 +123,6 @@ public class ModelGenerator {
         int end = textDocument.textPositionFrom(lineRange.endLine());
         NonTerminalNode canvasNode = modulePartNode.findNode(TextRange.from(start, end - start), true);
 
-        // Obtain the connections visible at the module-level
-        List<FlowNode> moduleConnections =
-                semanticModel.visibleSymbols(document, canvasNode.lineRange().startLine()).stream()
-                        .flatMap(symbol -> buildConnection(symbol).stream())
-                        .sorted(Comparator.comparing(
-                                node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
-                                        .map(property -> property.value().toString())
-                                        .orElse("")))
-                        .toList();
-
         // Obtain the data mapping function names
         Map<String, LineRange> dataMappings = new HashMap<>();
         if (dataMappingDoc != null) {
@@ -146,11 +153,40 @@ public class ModelGenerator {
         // Analyze the code block to find the flow nodes
         CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, Property.LOCAL_SCOPE, dataMappings,
                 naturalFunctions, textDocument, ModuleInfo.from(document.module().descriptor()), true);
-        canvasNode.accept(codeAnalyzer);
+        List<FlowNode> moduleConnections;
+        if (incremental && FlowModelCache.isSupported(canvasNode)) {
+            moduleConnections = FlowModelCache.getInstance().analyze(document, (FunctionDefinitionNode) canvasNode,
+                    semanticModel, codeAnalyzer, () -> getModuleConnections(document, canvasNode));
+        } else {
+            moduleConnections = getModuleConnections(document, canvasNode);
+            canvasNode.accept(codeAnalyzer);
+        }
 
         // Generate the flow model
         Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        JsonElement flowModel = gson.toJsonTree(diagram);
+
+        // Verify the incremental flow model against a full regeneration when enabled
+        if (incremental && Boolean.getBoolean(VERIFY_INCREMENTAL_PROPERTY)) {
+            JsonElement fullFlowModel = getFlowModel(document, lineRange, dataMappingDoc, functionsDoc, false);
+            if (!fullFlowModel.equals(flowModel)) {
+                LOGGER.warning("Incremental flow model differs from the full regeneration: " + filePath);
+                FlowModelCache.getInstance().clear();
+                return fullFlowModel;
+            }
+        }
+        return flowModel;
+    }
+
+    private List<FlowNode> getModuleConnections(Document document, NonTerminalNode canvasNode) {
+        // Obtain the connections visible at the module-level
+        return semanticModel.visibleSymbols(document, canvasNode.lineRange().startLine()).stream()
+                .flatMap(symbol -> buildConnection(symbol).stream())
+                .sorted(Comparator.comparing(
+                        node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
+                                .map(property -> property.value().toString())
+                                .orElse("")))
+                .toList();
     }
 
     public JsonElement getModuleNodes() {
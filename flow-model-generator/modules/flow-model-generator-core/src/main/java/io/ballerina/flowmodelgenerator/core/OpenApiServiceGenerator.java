@@ -56,7 +56,6 @@ import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.text.LinePosition;
@@ -147,7 +146,8 @@ public class OpenApiServiceGenerator {
                 errorMessages.add(diagnostic.message());
             }
         }
-        BuildProject sampleProject = PackageUtil.getSampleProject();
+        // Work on a duplicate as the sample project is shared across the callers
+        Project sampleProject = PackageUtil.getSampleProject().duplicate();
         for (DocumentId documentId : sampleProject.currentPackage().getDefaultModule().documentIds()) {
             Document document = sampleProject.currentPackage().getDefaultModule().document(documentId);
             try {
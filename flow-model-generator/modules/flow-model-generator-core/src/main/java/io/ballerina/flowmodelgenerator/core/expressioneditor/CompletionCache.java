@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.expressioneditor;
+
+import io.ballerina.tools.text.TextDocument;
+import org.eclipse.lsp4j.CompletionItem;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of the completions of the expression editor.
+ *
+ * <p>
+ * The completions are keyed by the context of the edited property and the expression, apart from the identifier being
+ * typed at the cursor. While the user keeps typing the identifier, the completions received for the shorter
+ * identifier are narrowed to the items matching it, instead of requesting the completions from the language server.
+ * The completions are discarded once a document of the package changes, and the least recently used entries are evicted
+ * beyond a fixed bound.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class CompletionCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<String, Entry> entries;
+
+    private static class Holder {
+
+        private static final CompletionCache INSTANCE = new CompletionCache();
+    }
+
+    public static CompletionCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private CompletionCache() {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached completions narrowed to the identifier being typed.
+     *
+     * @param key           the key identifying the context and the expression without the identifier being typed
+     * @param textDocuments the contents of the documents of the package, excluding the generated statement
+     * @param identifier    the identifier being typed at the cursor
+     * @return an Optional containing the matching completions if the completions of a prefix of the identifier are
+     * cached for the state of the package
+     */
+    public Optional<List<CompletionItem>> get(String key, List<TextDocument> textDocuments, String identifier) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !identifier.startsWith(entry.identifier()) ||
+                !ExpressionEditorContext.isSamePackageState(entry.textDocuments(), textDocuments)) {
+            return Optional.empty();
+        }
+        List<CompletionItem> completions = new ArrayList<>();
+        for (CompletionItem item : entry.completions()) {
+            if (matches(item, identifier)) {
+                completions.add(item);
+            }
+        }
+        return Optional.of(completions);
+    }
+
+    /**
+     * Caches the completions received for the given identifier being typed.
+     *
+     * @param key           the key identifying the context and the expression without the identifier being typed
+     * @param textDocuments the contents of the documents of the package, excluding the generated statement
+     * @param identifier    the identifier being typed at the cursor
+     * @param completions   the completions received from the language server
+     */
+    public void put(String key, List<TextDocument> textDocuments, String identifier,
+                    List<CompletionItem> completions) {
+        Entry entry = new Entry(List.copyOf(textDocuments), identifier, List.copyOf(completions));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all the cached completions.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns whether the characters of the identifier appear in order in the filter text of the item, ignoring the
+     * case, which retains every item a client could show for the identifier.
+     */
+    private static boolean matches(CompletionItem item, String identifier) {
+        String text = item.getFilterText() != null ? item.getFilterText() : item.getLabel();
+        if (text == null) {
+            return false;
+        }
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        String lowerCaseIdentifier = identifier.toLowerCase(Locale.ROOT);
+        int index = 0;
+        for (int i = 0; i < lowerCaseIdentifier.length(); i++) {
+            index = lowerCaseText.indexOf(lowerCaseIdentifier.charAt(i), index);
+            if (index < 0) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    /**
+     * Represents the completions received for an identifier being typed in a state of the package.
+     *
+     * @param textDocuments the contents of the documents of the package
+     * @param identifier    the identifier being typed when the completions were received
+     * @param completions   the completions received
+     */
+    private record Entry(List<TextDocument> textDocuments, String identifier, List<CompletionItem> completions) {
+
+    }
+}
@@ -19,10 +19,13 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -33,6 +36,14 @@ import java.util.concurrent.TimeUnit;
  * cancelling any pending executions in between. This class follows the Singleton pattern, ensuring only one instance
  * exists across the application.
  *
+ * <p>
+ * Requests are debounced per file, property and API, so that the editors of different properties or files do not
+ * cancel each other. The scheduler thread only keeps track of the delays, and the requests are executed on the
+ * interactive executor, one at a time per file as they modify the same document. The delay of an API adapts to the
+ * observed cost of its requests, within half and twice the delay requested. A request that can respond without the
+ * document, such as when the expression has syntax errors, responds immediately.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class Debouncer {
@@ -40,15 +51,34 @@ public class Debouncer {
     // Time unit for the delay
     private static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
 
+    // Weight of the latest execution time in the average cost of an API
+    private static final double COST_WEIGHT = 0.3;
+
     // Map to hold scheduled tasks
     private final ConcurrentHashMap<String, ScheduledTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce tasks.
+    // Map to hold the last task executed or queued for each file
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> fileTasks;
+
+    // Map to hold the average execution time of each API in milliseconds
+    private final ConcurrentHashMap<String, Double> averageCosts;
+
+    // Single-thread scheduler to keep track of the delays
     private final ScheduledExecutorService scheduler;
 
+    // Executor to run the debounced tasks
+    private final Executor executor;
+
     private Debouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expression-editor-debouncer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = RequestScheduler.getInstance().executor(RequestScheduler.Kind.INTERACTIVE);
         delayedMap = new ConcurrentHashMap<>();
+        fileTasks = new ConcurrentHashMap<>();
+        averageCosts = new ConcurrentHashMap<>();
     }
 
     /**
@@ -56,36 +86,82 @@ public class Debouncer {
      * Any previously scheduled task with the same key is cancelled.
      */
     public <T> CompletableFuture<T> debounce(DebouncedExpressionEditorRequest<T> request) {
-        long delay = request.getDelay();
-        String key = request.getKey();
+        String key = request.getDebounceKey();
+
+        // Respond without the delay if the response does not depend on the document, which supersedes the pending task
+        Optional<T> immediateResponse = request.getImmediateResponse();
+        if (immediateResponse.isPresent()) {
+            cancel(delayedMap.remove(key));
+            return CompletableFuture.completedFuture(immediateResponse.get());
+        }
+
         CompletableFuture<T> promise = new CompletableFuture<>();
 
-        // Schedule the task to run after the specified delay.
-        Future<?> scheduledFuture = scheduler.schedule(() -> {
-            try {
-                T result = request.call();
-                promise.complete(result);
-            } catch (Exception ex) {
-                promise.completeExceptionally(ex);
-            } finally {
-                if (promise.isCompletedExceptionally()) {
-                    request.revertDocument();
-                }
-                delayedMap.remove(key);
-            }
-        }, delay, TIME_UNIT);
+        // Schedule the task to be queued for the file after the adapted delay.
+        Future<?> scheduledFuture = scheduler.schedule(() -> enqueue(key, request, promise),
+                getDelay(request), TIME_UNIT);
 
         // Replace any existing scheduled task with the new one.
-        @SuppressWarnings("unchecked")
-        ScheduledTaskHolder<T> prev = (ScheduledTaskHolder<T>) delayedMap.put(key,
-                new ScheduledTaskHolder<>(promise, scheduledFuture));
-        if (prev != null) {
-            prev.future().cancel(true);
-            prev.promise().completeExceptionally(new CancellationException("Debounced by a new request"));
-        }
+        cancel(delayedMap.put(key, new ScheduledTaskHolder<>(promise, scheduledFuture)));
         return promise;
     }
 
+    private static void cancel(ScheduledTaskHolder<?> holder) {
+        if (holder != null) {
+            holder.future().cancel(false);
+            holder.promise().completeExceptionally(new CancellationException("Debounced by a new request"));
+        }
+    }
+
+    private <T> void enqueue(String key, DebouncedExpressionEditorRequest<T> request, CompletableFuture<T> promise) {
+        String fileUri = request.getFileUri();
+        CompletableFuture<Void> task = fileTasks.compute(fileUri, (k, previousTask) -> {
+            CompletableFuture<Void> previous = previousTask == null ? CompletableFuture.completedFuture(null)
+                    : previousTask.exceptionally(throwable -> null);
+            return previous.thenRunAsync(() -> execute(key, request, promise), executor);
+        });
+        task.whenComplete((result, throwable) -> {
+            fileTasks.remove(fileUri, task);
+            if (throwable != null) {
+                // The executor has rejected the task
+                promise.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    private <T> void execute(String key, DebouncedExpressionEditorRequest<T> request, CompletableFuture<T> promise) {
+        // Skip the request if it has been debounced while waiting for the other requests of the file
+        if (promise.isDone()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        try {
+            T result = request.call();
+            promise.complete(result);
+        } catch (Exception ex) {
+            // Revert the statement as the document may have been partially modified
+            request.revertDocument();
+            promise.completeExceptionally(ex);
+        } finally {
+            delayedMap.computeIfPresent(key, (k, holder) -> holder.promise() == promise ? null : holder);
+            recordCost(request.getKey(), TIME_UNIT.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private long getDelay(DebouncedExpressionEditorRequest<?> request) {
+        long delay = request.getDelay();
+        Double averageCost = averageCosts.get(request.getKey());
+        if (averageCost == null) {
+            return delay;
+        }
+        return Math.max(delay / 2, Math.min(delay * 2, Math.round(averageCost)));
+    }
+
+    private void recordCost(String apiKey, long cost) {
+        averageCosts.merge(apiKey, (double) cost,
+                (average, latest) -> average + COST_WEIGHT * (latest - average));
+    }
+
     public static Debouncer getInstance() {
         return Holder.INSTANCE;
     }
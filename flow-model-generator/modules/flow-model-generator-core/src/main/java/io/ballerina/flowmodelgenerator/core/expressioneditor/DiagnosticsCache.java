@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.expressioneditor;
+
+import io.ballerina.tools.text.TextDocument;
+import org.eclipse.lsp4j.Diagnostic;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cache of the semantic diagnostics of the expressions in the expression editor.
+ *
+ * <p>
+ * The semantic diagnostics of an expression only depend on the contents of the documents of the package, excluding
+ * the generated statement, and on the context of the edited property. The diagnostics of a file are kept for a single
+ * state of the package, which is identified by the instances of the text documents, and are discarded once a document
+ * changes. Within it, the diagnostics are keyed by the context and the expression, so that an expression that has
+ * already been analyzed, such as after undoing a change, does not compile the package again.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class DiagnosticsCache {
+
+    private static final int MAX_FILES = 16;
+    private static final int MAX_ENTRIES_PER_FILE = 256;
+
+    private final Map<String, FileDiagnostics> files;
+
+    private static class Holder {
+
+        private static final DiagnosticsCache INSTANCE = new DiagnosticsCache();
+    }
+
+    public static DiagnosticsCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private DiagnosticsCache() {
+        this.files = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FileDiagnostics> eldest) {
+                return size() > MAX_FILES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached semantic diagnostics of the given expression context.
+     *
+     * @param fileUri       the URI of the file in the expression editor
+     * @param textDocuments the contents of the documents of the package, excluding the generated statement
+     * @param key           the key identifying the context and the expression
+     * @return an Optional containing the diagnostics if they are cached for the state of the package
+     */
+    public Optional<Set<Diagnostic>> get(String fileUri, List<TextDocument> textDocuments, String key) {
+        Set<Diagnostic> diagnostics = null;
+        synchronized (files) {
+            FileDiagnostics fileDiagnostics = files.get(fileUri);
+            if (fileDiagnostics != null && fileDiagnostics.isFor(textDocuments)) {
+                diagnostics = fileDiagnostics.entries.get(key);
+            }
+        }
+        return Optional.ofNullable(diagnostics);
+    }
+
+    /**
+     * Caches the semantic diagnostics of the given expression context, discarding the diagnostics cached for another
+     * state of the package.
+     *
+     * @param fileUri       the URI of the file in the expression editor
+     * @param textDocuments the contents of the documents of the package, excluding the generated statement
+     * @param key           the key identifying the context and the expression
+     * @param diagnostics   the semantic diagnostics
+     */
+    public void put(String fileUri, List<TextDocument> textDocuments, String key, Set<Diagnostic> diagnostics) {
+        Set<Diagnostic> copy = Set.copyOf(diagnostics);
+        synchronized (files) {
+            FileDiagnostics fileDiagnostics = files.get(fileUri);
+            if (fileDiagnostics == null || !fileDiagnostics.isFor(textDocuments)) {
+                fileDiagnostics = new FileDiagnostics(List.copyOf(textDocuments));
+                files.put(fileUri, fileDiagnostics);
+            }
+            fileDiagnostics.entries.put(key, copy);
+        }
+    }
+
+    /**
+     * Removes all the cached diagnostics.
+     */
+    public void clear() {
+        synchronized (files) {
+            files.clear();
+        }
+    }
+
+    /**
+     * Represents the diagnostics cached for a file in a state of the package.
+     */
+    private static final class FileDiagnostics {
+
+        private final List<TextDocument> textDocuments;
+        private final Map<String, Set<Diagnostic>> entries;
+
+        private FileDiagnostics(List<TextDocument> textDocuments) {
+            this.textDocuments = textDocuments;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Set<Diagnostic>> eldest) {
+                    return size() > MAX_ENTRIES_PER_FILE;
+                }
+            };
+        }
+
+        private boolean isFor(List<TextDocument> currentTextDocuments) {
+            return ExpressionEditorContext.isSamePackageState(textDocuments, currentTextDocuments);
+        }
+    }
+}
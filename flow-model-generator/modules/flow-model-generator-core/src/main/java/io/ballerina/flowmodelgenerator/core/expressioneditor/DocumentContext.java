@@ -77,12 +77,22 @@ public class DocumentContext {
 
     public WorkspaceManager workspaceManager() {
         if (workspaceManager == null) {
-            fileUri = inputFileUri == null ? CommonUtils.getExprUri(inputFilePath.toString()) : inputFileUri;
+            fileUri = requestedFileUri();
             workspaceManager = workspaceManagerProxy.get(fileUri);
         }
         return workspaceManager;
     }
 
+    /**
+     * Returns the URI of the requested file without resolving its document, which may be a different document of the
+     * module if the file does not exist.
+     *
+     * @return the URI of the requested file
+     */
+    public String requestedFileUri() {
+        return inputFileUri == null ? CommonUtils.getExprUri(inputFilePath.toString()) : inputFileUri;
+    }
+
     public Optional<Project> project() {
         if (project != null) {
             return Optional.of(project);
@@ -198,6 +208,24 @@ public class DocumentContext {
         initialized = true;
     }
 
+    /**
+     * Uses the given document, which is already resolved for the requested file, instead of loading the project.
+     *
+     * @param filePath the path of the document
+     * @param fileUri  the URI of the document
+     * @param document the document
+     */
+    void reuse(Path filePath, String fileUri, Document document) {
+        this.filePath = filePath;
+        this.fileUri = fileUri;
+        this.document = document;
+        this.module = null;
+        this.project = null;
+        this.semanticModel = null;
+        this.imports = null;
+        this.initialized = true;
+    }
+
     public void clear() {
         this.initialized = false;
         this.document = null;
@@ -18,6 +18,7 @@
 
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
@@ -25,6 +26,7 @@ import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.tools.text.LinePosition;
@@ -50,6 +52,8 @@ import java.util.Optional;
  */
 public class ExpressionEditorContext {
 
+    private static final String METADATA_KEY = "metadata";
+
     private final Info info;
     private final DocumentContext documentContext;
     private final Property property;
@@ -59,6 +63,7 @@ public class ExpressionEditorContext {
     private LineRange statementLineRange;
     private LinePosition startLine;
     private int numberOfLines;
+    private ScratchDocumentManager.ScratchDocument scratchDocument;
 
     public ExpressionEditorContext(WorkspaceManagerProxy workspaceManagerProxy, String fileUri, Info info,
                                    Path filePath) {
@@ -150,21 +155,43 @@ public class ExpressionEditorContext {
 
     /**
      * Generates a Ballerina statement based on the availability of the type, and applies it to the document. Based on
-     * the availability of the type, the statement will be in the format: `<type>? _ = <expr>;`.
+     * the availability of the type, the statement will be in the format: `<type>? _ = <expr>;`. If the statement of
+     * the same property is retained in the scratch document, only the expression is replaced.
      *
      * @return the line range of the generated statement.
      */
     public LineRange generateStatement() {
         String prefix = "any|error __reserved__ = ";
+        if (property != null && property.valueTypeConstraint() != null) {
+            // Append the type if exists
+            prefix = String.format("%s __reserved__ = ", property.valueTypeConstraint());
+        }
+        this.expressionOffset = prefix.length();
+        String statement = String.format("%s%s;%n", prefix, info.expression());
+
+        // Replace only the expression if the statement is retained in the scratch document
+        String statementKey = getStatementKey(prefix);
+        if (scratchDocument != null) {
+            Optional<Document> retainedDocument =
+                    scratchDocument.retainedDocument(workspaceManager(), statementKey);
+            if (retainedDocument.isPresent()) {
+                documentContext.reuse(scratchDocument.filePath(), scratchDocument.fileUri(),
+                        retainedDocument.get());
+                if (!info.expression().equals(scratchDocument.expression())) {
+                    applyTextEdits(List.of(scratchDocument.expressionEdit(info.expression())));
+                    scratchDocument.retainExpression(info.expression());
+                }
+                return setStatementLineRange(scratchDocument.statementStartLine(), statement);
+            }
+            if (scratchDocument.revert()) {
+                documentContext.clear();
+            }
+        }
+
         List<TextEdit> textEdits = new ArrayList<>();
         int lineOffset = 0;
 
         if (property != null) {
-            // Append the type if exists
-            if (property.valueTypeConstraint() != null) {
-                prefix = String.format("%s __reserved__ = ", property.valueTypeConstraint());
-            }
-
             // Add the import statements of the dependent types
             Map<String, String> imports = property.importStatements();
             if (imports != null && !imports.isEmpty()) {
@@ -193,20 +220,89 @@ public class ExpressionEditorContext {
         LinePosition cursorStartLine = startLine();
         int textPosition = textDocument.textPositionFrom(cursorStartLine);
 
-        // Generate the statement and apply the text edits
-        String statement = String.format("%s%s;%n", prefix, info.expression());
-        this.expressionOffset = prefix.length();
+        // Apply the text edits along with the statement
         textEdits.add(TextEdit.from(TextRange.from(textPosition, 0), statement));
         applyTextEdits(textEdits);
 
-        // Return the line range of the generated statement
+        // Retain the statement until the form is closed
         LinePosition startLine = LinePosition.from(cursorStartLine.line() + lineOffset, cursorStartLine.offset());
+        if (scratchDocument != null) {
+            scratchDocument.retain(workspaceManager(), documentContext.filePath(), documentContext.fileUri(),
+                    statementKey, textDocument, startLine, prefix.length(), info.expression());
+        }
+        return setStatementLineRange(startLine, statement);
+    }
+
+    private LineRange setStatementLineRange(LinePosition startLine, String statement) {
         LinePosition endLineRange =
                 LinePosition.from(startLine.line() + numberOfLines, startLine.offset() + statement.length());
         this.statementLineRange = LineRange.from(getFileName(documentContext.filePath()), startLine, endLineRange);
         return statementLineRange;
     }
 
+    /**
+     * Returns a key identifying the statement generated for the expression, apart from the expression itself. The
+     * statement of a property can be retained while the key remains the same.
+     */
+    private String getStatementKey(String prefix) {
+        return String.join("|", prefix, String.valueOf(info.startLine()),
+                String.valueOf(property.importStatements()), property.org(), property.module(),
+                String.valueOf(property.nodeKind()));
+    }
+
+    /**
+     * Returns the contents of the documents of the package, where the content of this document excludes the generated
+     * statement. The same instances are returned while the package is not modified by others, hence they identify the
+     * state of the package analyzed by the requests.
+     *
+     * @return the contents of the documents of the package
+     */
+    public List<TextDocument> packageTextDocuments() {
+        Optional<Document> retainedDocument = scratchDocument == null ? Optional.empty()
+                : scratchDocument.retainedDocument(workspaceManager());
+        Document document = retainedDocument.orElseGet(documentContext::document);
+        List<TextDocument> textDocuments = new ArrayList<>();
+        textDocuments.add(retainedDocument.isPresent() ? scratchDocument.originalTextDocument()
+                : document.textDocument());
+        for (Module module : document.module().packageInstance().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                if (!documentId.equals(document.documentId())) {
+                    textDocuments.add(module.document(documentId).textDocument());
+                }
+            }
+        }
+        return textDocuments;
+    }
+
+    /**
+     * Returns whether the given contents of the documents of the package represent the same state of the package.
+     *
+     * @param textDocuments      the contents of the documents of the package
+     * @param otherTextDocuments the other contents of the documents of the package
+     * @return true if the package has not been modified in between
+     * @see #packageTextDocuments()
+     */
+    public static boolean isSamePackageState(List<TextDocument> textDocuments, List<TextDocument> otherTextDocuments) {
+        if (textDocuments.size() != otherTextDocuments.size()) {
+            return false;
+        }
+        for (int i = 0; i < textDocuments.size(); i++) {
+            if (textDocuments.get(i) != otherTextDocuments.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the scratch document in which the generated statement is retained until the form is closed.
+     *
+     * @param scratchDocument the scratch document of the file
+     */
+    public void setScratchDocument(ScratchDocumentManager.ScratchDocument scratchDocument) {
+        this.scratchDocument = scratchDocument;
+    }
+
     public LineRange getExpressionLineRange() {
         LinePosition startLine = info().startLine();
         LinePosition endLine =
@@ -283,6 +379,20 @@ public class ExpressionEditorContext {
         return property;
     }
 
+    /**
+     * Returns an identifier of the edited property, which remains the same while the user types in it. The property is
+     * identified by the start line of its node and its metadata.
+     *
+     * @return the identifier of the edited property
+     */
+    public String propertyId() {
+        if (info == null) {
+            return "";
+        }
+        JsonElement metadata = info.property() == null ? null : info.property().get(METADATA_KEY);
+        return info.startLine() + (metadata == null ? "" : metadata.toString());
+    }
+
     /**
      * Represents a property with associated code data in the expression editor context.
      *
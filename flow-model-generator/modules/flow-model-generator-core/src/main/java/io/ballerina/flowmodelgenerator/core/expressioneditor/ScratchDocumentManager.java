@@ -0,0 +1,305 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.expressioneditor;
+
+import io.ballerina.modelgenerator.commons.RequestScheduler;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the scratch documents of the expression editor, which retain the statement of the edited expression while a
+ * form is open.
+ *
+ * <p>
+ * The first request of a form writes the statement of the expression, along with the imports it requires, to the
+ * document. The statement is then retained, and the subsequent requests for the same property only replace the
+ * expression in it, instead of reloading the project and rewriting the statement. The original content is restored
+ * when the form is closed, when a request expecting the original content is processed, or when the scratch document is
+ * evicted. A scratch document is discarded without being reverted if the document has been modified by others.
+ * </p>
+ *
+ * <p>
+ * As a client may not release the session, such as when it is closed along with an open form, the scratch documents
+ * that have not been requested for a while are also reverted in the background. A form that is still open then writes
+ * the statement again with its next request.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ScratchDocumentManager {
+
+    private static final int MAX_DOCUMENTS = 16;
+
+    // Time after which a scratch document that has not been requested is reverted
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    // Interval of checking for idle scratch documents
+    private static final long IDLE_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Map<String, ScratchDocument> scratchDocuments;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private static class Holder {
+
+        private static final ScratchDocumentManager INSTANCE = new ScratchDocumentManager();
+    }
+
+    public static ScratchDocumentManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private ScratchDocumentManager() {
+        this.scratchDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ScratchDocument> eldest) {
+                if (size() <= MAX_DOCUMENTS) {
+                    return false;
+                }
+                eldest.getValue().revert();
+                return true;
+            }
+        };
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expression-editor-scratch-documents");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = RequestScheduler.getInstance().executor(RequestScheduler.Kind.INTERACTIVE);
+        this.scheduler.scheduleWithFixedDelay(this::scheduleIdleCheck, IDLE_CHECK_INTERVAL_MILLIS,
+                IDLE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the scratch document of the given file. The requests using it must synchronize on it, as the scratch
+     * document is not thread-safe otherwise.
+     *
+     * @param fileUri the URI of the file in the expression editor
+     * @return the scratch document of the file
+     */
+    public ScratchDocument get(String fileUri) {
+        ScratchDocument scratchDocument;
+        synchronized (scratchDocuments) {
+            scratchDocument = scratchDocuments.computeIfAbsent(fileUri, k -> new ScratchDocument());
+        }
+        scratchDocument.lastAccessTime = System.currentTimeMillis();
+        return scratchDocument;
+    }
+
+    /**
+     * Restores the original content of the given file if a statement is retained in it, which should happen when the
+     * form is closed.
+     *
+     * @param fileUri the URI of the file in the expression editor
+     * @return true if a retained statement was reverted
+     */
+    public boolean release(String fileUri) {
+        ScratchDocument scratchDocument;
+        synchronized (scratchDocuments) {
+            scratchDocument = scratchDocuments.get(fileUri);
+        }
+        return scratchDocument != null && scratchDocument.revert();
+    }
+
+    private void scheduleIdleCheck() {
+        try {
+            executor.execute(this::revertIdleDocuments);
+        } catch (RejectedExecutionException e) {
+            // The idle documents are reverted at the next check
+        }
+    }
+
+    /**
+     * Restores the original content of the files whose scratch documents have not been requested within the idle
+     * timeout, in case the client has not released them.
+     */
+    private void revertIdleDocuments() {
+        List<ScratchDocument> documents;
+        synchronized (scratchDocuments) {
+            documents = new ArrayList<>(scratchDocuments.values());
+        }
+        long idleSince = System.currentTimeMillis() - IDLE_TIMEOUT_MILLIS;
+        for (ScratchDocument scratchDocument : documents) {
+            if (scratchDocument.lastAccessTime < idleSince) {
+                scratchDocument.revert();
+            }
+        }
+    }
+
+    /**
+     * A document of the expression editor with the statement of an expression written to it.
+     */
+    public static final class ScratchDocument {
+
+        private WorkspaceManager workspaceManager;
+        private Path filePath;
+        private String fileUri;
+        private String statementKey;
+        private TextDocument originalTextDocument;
+        private TextDocument writtenTextDocument;
+        private LinePosition statementStartLine;
+        private int expressionStart;
+        private String expression;
+        private volatile long lastAccessTime;
+
+        private ScratchDocument() {
+        }
+
+        /**
+         * Returns the current document if it still contains the statement identified by the given key, as written by
+         * this scratch document.
+         *
+         * @param workspaceManager the workspace manager of the request
+         * @param statementKey     the key identifying the type, imports and position of the statement
+         * @return the document containing the statement, if it is retained
+         */
+        synchronized Optional<Document> retainedDocument(WorkspaceManager workspaceManager, String statementKey) {
+            if (!statementKey.equals(this.statementKey)) {
+                return Optional.empty();
+            }
+            return retainedDocument(workspaceManager);
+        }
+
+        /**
+         * Returns the current document if it still contains a statement written by this scratch document. The
+         * document is a new instance whenever the package is modified, while the text document of an unmodified
+         * document remains the same.
+         *
+         * @param workspaceManager the workspace manager of the request
+         * @return the document containing the statement, if it is retained
+         */
+        synchronized Optional<Document> retainedDocument(WorkspaceManager workspaceManager) {
+            if (writtenTextDocument == null || workspaceManager != this.workspaceManager) {
+                return Optional.empty();
+            }
+            return currentDocument().filter(document -> document.textDocument() == writtenTextDocument);
+        }
+
+        /**
+         * Records the statement written to the document.
+         *
+         * @param workspaceManager     the workspace manager of the document
+         * @param filePath             the path of the document
+         * @param fileUri              the URI of the document
+         * @param statementKey         the key identifying the type, imports and position of the statement
+         * @param originalTextDocument the content of the document before the statement was written
+         * @param statementStartLine   the start line of the statement
+         * @param expressionOffset     the offset of the expression from the start of the statement
+         * @param expression           the expression in the statement
+         */
+        synchronized void retain(WorkspaceManager workspaceManager, Path filePath, String fileUri,
+                                 String statementKey, TextDocument originalTextDocument,
+                                 LinePosition statementStartLine, int expressionOffset, String expression) {
+            this.workspaceManager = workspaceManager;
+            this.filePath = filePath;
+            this.fileUri = fileUri;
+            this.statementKey = statementKey;
+            this.originalTextDocument = originalTextDocument;
+            this.statementStartLine = statementStartLine;
+            this.expression = expression;
+            this.writtenTextDocument = currentDocument().map(Document::textDocument).orElse(null);
+            if (writtenTextDocument != null) {
+                this.expressionStart = writtenTextDocument.textPositionFrom(statementStartLine) + expressionOffset;
+            }
+        }
+
+        /**
+         * Returns the text edit replacing the retained expression with the given one.
+         *
+         * @param newExpression the new expression
+         * @return the text edit replacing the expression
+         */
+        synchronized TextEdit expressionEdit(String newExpression) {
+            return TextEdit.from(TextRange.from(expressionStart, expression.length()), newExpression);
+        }
+
+        /**
+         * Records the expression written to the retained statement.
+         *
+         * @param newExpression the expression in the statement
+         */
+        synchronized void retainExpression(String newExpression) {
+            this.expression = newExpression;
+            this.writtenTextDocument = currentDocument().map(Document::textDocument).orElse(null);
+        }
+
+        /**
+         * Restores the content of the document before the statement was written, unless the document has been modified
+         * by others since.
+         *
+         * @return true if the statement was reverted
+         */
+        public synchronized boolean revert() {
+            Optional<Document> retainedDocument = retainedDocument(workspaceManager);
+            writtenTextDocument = null;
+            statementKey = null;
+            if (retainedDocument.isEmpty()) {
+                return false;
+            }
+            retainedDocument.get().modify()
+                    .withContent(String.join(System.lineSeparator(), originalTextDocument.textLines()))
+                    .apply();
+            return true;
+        }
+
+        synchronized Path filePath() {
+            return filePath;
+        }
+
+        synchronized String fileUri() {
+            return fileUri;
+        }
+
+        synchronized String expression() {
+            return expression;
+        }
+
+        synchronized TextDocument originalTextDocument() {
+            return originalTextDocument;
+        }
+
+        synchronized LinePosition statementStartLine() {
+            return statementStartLine;
+        }
+
+        private Optional<Document> currentDocument() {
+            try {
+                return workspaceManager.document(filePath);
+            } catch (RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
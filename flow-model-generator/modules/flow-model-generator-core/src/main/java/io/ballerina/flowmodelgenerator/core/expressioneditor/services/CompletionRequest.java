@@ -18,8 +18,10 @@
 
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
+import io.ballerina.flowmodelgenerator.core.expressioneditor.CompletionCache;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.core.model.Property;
+import io.ballerina.tools.text.TextDocument;
 import org.eclipse.lsp4j.CompletionContext;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -32,12 +34,19 @@ import org.eclipse.lsp4j.services.TextDocumentService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a request for code completion in the expression editor. This class extends
  * DebouncedExpressionEditorRequest to handle completion requests with debouncing functionality.
  *
+ * <p>
+ * The completions are only requested from the language server when the scope of the cursor changes. While the user
+ * keeps typing an identifier, the completions received for its prefix are narrowed locally.
+ * </p>
+ *
+ * @see CompletionCache
  * @since 2.0.0
  */
 public class CompletionRequest extends DebouncedExpressionEditorRequest<Either<List<CompletionItem>, CompletionList>> {
@@ -55,10 +64,27 @@ public class CompletionRequest extends DebouncedExpressionEditorRequest<Either<L
 
     @Override
     public Either<List<CompletionItem>, CompletionList> getResponse(ExpressionEditorContext context) {
+        // Narrow the completions of the same scope if the user keeps typing an identifier
+        CompletionCache completionCache = CompletionCache.getInstance();
+        String expression = context.info().expression();
+        int cursor = getCursorIndex(context.info());
+        int identifierStart = cursor;
+        while (identifierStart > 0 && isIdentifierPart(expression.charAt(identifierStart - 1))) {
+            identifierStart--;
+        }
+        String identifier = expression.substring(identifierStart, cursor);
+        String cacheKey = getCacheKey(context, expression.substring(0, identifierStart),
+                expression.substring(cursor));
+        List<TextDocument> textDocuments = context.packageTextDocuments();
+        Optional<List<CompletionItem>> cachedCompletions = completionCache.get(cacheKey, textDocuments, identifier);
+        if (cachedCompletions.isPresent()) {
+            return Either.forLeft(cachedCompletions.get());
+        }
+
         context.generateStatement();
         Position position = context.getCursorPosition();
-        TextDocumentIdentifier identifier = new TextDocumentIdentifier(context.fileUri());
-        CompletionParams params = new CompletionParams(identifier, position, completionContext);
+        TextDocumentIdentifier textDocumentIdentifier = new TextDocumentIdentifier(context.fileUri());
+        CompletionParams params = new CompletionParams(textDocumentIdentifier, position, completionContext);
 
         // Get completions from language server
         CompletableFuture<Either<List<CompletionItem>, CompletionList>> completableFuture =
@@ -88,9 +114,60 @@ public class CompletionRequest extends DebouncedExpressionEditorRequest<Either<L
             completions.getRight().getItems().removeIf(item -> RESERVED_VARIABLE_NAME.equals(item.getLabel()));
         }
 
+        getCacheableCompletions(completions)
+                .ifPresent(items -> completionCache.put(cacheKey, textDocuments, identifier, items));
         return completions;
     }
 
+    /**
+     * Returns the index of the cursor in the expression, which is bounded by the length of the expression.
+     */
+    private static int getCursorIndex(ExpressionEditorContext.Info info) {
+        String expression = info.expression();
+        int index = 0;
+        for (int line = 0; line < info.lineOffset(); line++) {
+            int lineEnd = expression.indexOf('\n', index);
+            if (lineEnd < 0) {
+                return expression.length();
+            }
+            index = lineEnd + 1;
+        }
+        return Math.max(0, Math.min(expression.length(), index + info.offset()));
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_';
+    }
+
+    private String getCacheKey(ExpressionEditorContext context, String scope, String suffix) {
+        ExpressionEditorContext.Property property = context.getProperty();
+        return String.join("|", getFileUri(), context.propertyId(), property.valueType(),
+                property.valueTypeConstraint(), String.valueOf(property.importStatements()), property.org(),
+                property.module(), String.valueOf(property.nodeKind()), scope, suffix);
+    }
+
+    /**
+     * Returns the completion items if they can be narrowed locally, which is not the case when the list is incomplete
+     * or when an item replaces a range of the statement.
+     */
+    private static Optional<List<CompletionItem>> getCacheableCompletions(
+            Either<List<CompletionItem>, CompletionList> completions) {
+        List<CompletionItem> items;
+        if (completions.isLeft()) {
+            items = completions.getLeft();
+        } else {
+            CompletionList completionList = completions.getRight();
+            if (completionList == null || completionList.isIncomplete()) {
+                return Optional.empty();
+            }
+            items = completionList.getItems();
+        }
+        if (items == null || items.stream().anyMatch(item -> item.getTextEdit() != null)) {
+            return Optional.empty();
+        }
+        return Optional.of(items);
+    }
+
     @Override
     public String getKey() {
         return "completions";
@@ -19,8 +19,9 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
-import io.ballerina.tools.text.TextDocument;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.ScratchDocumentManager;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
 /**
@@ -29,18 +30,21 @@ import java.util.concurrent.Callable;
  * document content while processing expression editor requests. The class implements {@link Callable} to enable
  * asynchronous execution.
  *
+ * <p>
+ * The statement generated by a request is retained in the scratch document of the file, so that the subsequent
+ * requests of the form only replace the expression. The document is reverted when the form is closed.
+ * </p>
+ *
  * @param <T> The type of response that will be returned by this request
+ * @see ScratchDocumentManager
  * @since 2.0.0
  */
 public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T> {
 
     private final ExpressionEditorContext context;
-    private TextDocument prevDoc;
-    private boolean reverted;
 
     public DebouncedExpressionEditorRequest(ExpressionEditorContext context) {
         this.context = context;
-        this.reverted = false;
     }
 
     /**
@@ -67,23 +71,75 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
      */
     public abstract long getDelay();
 
-    @Override
-    public T call() throws Exception {
-        // Capture the first state of the document
-        prevDoc = context.textDocument();
+    /**
+     * Returns the response if it can be computed without the document, such as for the syntax errors of the
+     * expression. Such a response is sent as soon as the request is received, without the delay.
+     *
+     * @param context The expression editor context containing relevant information for processing
+     * @return The response if it can be computed without the document
+     */
+    protected Optional<T> getImmediateResponse(ExpressionEditorContext context) {
+        return Optional.empty();
+    }
 
-        // Write the statement and generate the response
-        T response = getResponse(context);
+    /**
+     * Returns the response of the request if it can be sent without the delay.
+     *
+     * @return The response if it can be computed without the document
+     * @see #getImmediateResponse(ExpressionEditorContext)
+     */
+    public final Optional<T> getImmediateResponse() {
+        return getImmediateResponse(context);
+    }
 
-        // Revert the document to the previous state
-        revertDocument();
-        return response;
+    /**
+     * Returns whether the request analyzes the statement generated for the expression, which can then be retained in
+     * the scratch document. Requests analyzing the original content of the document should return false.
+     *
+     * @return true if the request uses the generated statement
+     */
+    protected boolean usesStatement() {
+        return true;
     }
 
-    public final void revertDocument() {
-        if (!reverted && prevDoc != null) {
-            context.applyContent(prevDoc);
-            this.reverted = true;
+    /**
+     * Returns the key used to debounce the request, which combines the file, the edited property and the key of the
+     * expression editor API. Hence, only the requests of the same API for the same property supersede each other.
+     *
+     * @return The debounce key of the request
+     */
+    public final String getDebounceKey() {
+        return getFileUri() + "|" + context.propertyId() + "|" + getKey();
+    }
+
+    /**
+     * Returns the URI of the file modified by the request. The requests modifying the same file are executed one at a
+     * time.
+     *
+     * @return The URI of the file
+     */
+    public final String getFileUri() {
+        return context.documentContext().requestedFileUri();
+    }
+
+    @Override
+    public T call() throws Exception {
+        ScratchDocumentManager.ScratchDocument scratchDocument =
+                ScratchDocumentManager.getInstance().get(getFileUri());
+        synchronized (scratchDocument) {
+            if (usesStatement()) {
+                context.setScratchDocument(scratchDocument);
+            } else {
+                scratchDocument.revert();
+            }
+            return getResponse(context);
         }
     }
+
+    /**
+     * Reverts the statement retained in the document of the file, which should be done if the request fails.
+     */
+    public final void revertDocument() {
+        ScratchDocumentManager.getInstance().release(getFileUri());
+    }
 }
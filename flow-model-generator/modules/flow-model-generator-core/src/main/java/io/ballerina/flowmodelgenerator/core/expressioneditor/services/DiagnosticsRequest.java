@@ -19,11 +19,15 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.DiagnosticsCache;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.tools.text.TextDocument;
 import org.eclipse.lsp4j.Diagnostic;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -35,6 +39,19 @@ import java.util.stream.StreamSupport;
  * expression editor. It provides the basic processing workflow to parse the input expression, extract syntax errors,
  * and then, if no syntax issues are found, retrieve semantic diagnostics.
  *
+ * <p>
+ * The errors of the parser are reported as soon as the request is received, without waiting for the debounce delay.
+ * The semantic diagnostics are cached for the state of the package, so that an expression that has already been
+ * analyzed in the same context does not compile the package again.
+ * </p>
+ *
+ * <p>
+ * The syntax and semantic diagnostics cannot be streamed as partial results of the same request, as each JSON-RPC
+ * request receives a single response and the expression editor does not listen to a notification for them. Hence, a
+ * request either responds immediately with the errors of the parser, which supersedes the pending request of the same
+ * property, or responds with the semantic diagnostics after the debounce delay.
+ * </p>
+ *
  * @since 2.0.0
  */
 public abstract class DiagnosticsRequest extends DebouncedExpressionEditorRequest<DiagnosticsRequest.Diagnostics> {
@@ -76,12 +93,23 @@ public abstract class DiagnosticsRequest extends DebouncedExpressionEditorReques
     protected abstract Set<Diagnostic> getSemanticDiagnostics(ExpressionEditorContext context);
 
     protected Set<Diagnostic> getSyntaxDiagnostics(ExpressionEditorContext context) {
+        return getParserDiagnostics(context);
+    }
+
+    private Set<Diagnostic> getParserDiagnostics(ExpressionEditorContext context) {
         Node parsedNode = getParsedNode(context.info().expression());
         return StreamSupport.stream(parsedNode.diagnostics().spliterator(), true)
                 .map(CommonUtils::transformBallerinaDiagnostic)
                 .collect(Collectors.toSet());
     }
 
+    @Override
+    protected Optional<Diagnostics> getImmediateResponse(ExpressionEditorContext context) {
+        // The errors of the parser only depend on the expression, and can be reported without the delay
+        Set<Diagnostic> parserDiagnostics = getParserDiagnostics(context);
+        return parserDiagnostics.isEmpty() ? Optional.empty() : Optional.of(new Diagnostics(parserDiagnostics));
+    }
+
     @Override
     public Diagnostics getResponse(ExpressionEditorContext context) {
         // Check for syntax errors
@@ -90,8 +118,26 @@ public abstract class DiagnosticsRequest extends DebouncedExpressionEditorReques
             return new Diagnostics(syntaxDiagnostics);
         }
 
+        // Reuse the semantic errors if the expression has been analyzed in the same context
+        DiagnosticsCache diagnosticsCache = DiagnosticsCache.getInstance();
+        List<TextDocument> textDocuments = context.packageTextDocuments();
+        String cacheKey = getCacheKey(context);
+        Optional<Set<Diagnostic>> cachedDiagnostics = diagnosticsCache.get(getFileUri(), textDocuments, cacheKey);
+        if (cachedDiagnostics.isPresent()) {
+            return new Diagnostics(cachedDiagnostics.get());
+        }
+
         // Check for semantic errors
-        return new Diagnostics(getSemanticDiagnostics(context));
+        Set<Diagnostic> semanticDiagnostics = getSemanticDiagnostics(context);
+        diagnosticsCache.put(getFileUri(), textDocuments, cacheKey, semanticDiagnostics);
+        return new Diagnostics(semanticDiagnostics);
+    }
+
+    private String getCacheKey(ExpressionEditorContext context) {
+        ExpressionEditorContext.Property property = context.getProperty();
+        return String.join("|", getClass().getName(), context.propertyId(), property.value(),
+                property.valueTypeConstraint(), String.valueOf(property.importStatements()), property.org(),
+                property.module(), String.valueOf(property.nodeKind()), context.info().expression());
     }
 
     @Override
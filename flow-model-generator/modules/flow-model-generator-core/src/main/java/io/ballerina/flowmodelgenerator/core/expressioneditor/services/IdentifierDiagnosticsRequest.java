@@ -55,6 +55,11 @@ public class IdentifierDiagnosticsRequest extends DiagnosticsRequest {
         return NodeParser.parseBindingPattern(text);
     }
 
+    @Override
+    protected boolean usesStatement() {
+        return false;
+    }
+
     @Override
     protected Set<Diagnostic> getSemanticDiagnostics(ExpressionEditorContext context) {
         ExpressionEditorContext.Property property = context.getProperty();
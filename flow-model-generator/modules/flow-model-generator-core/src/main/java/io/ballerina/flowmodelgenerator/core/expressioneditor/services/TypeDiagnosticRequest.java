@@ -55,6 +55,11 @@ public class TypeDiagnosticRequest extends DiagnosticsRequest {
         return NodeParser.parseTypeDescriptor(getTrimmedOutput(text));
     }
 
+    @Override
+    protected boolean usesStatement() {
+        return false;
+    }
+
     @Override
     protected Set<Diagnostic> getSemanticDiagnostics(ExpressionEditorContext context) {
         Optional<SemanticModel> semanticModel =
@@ -36,6 +36,7 @@ import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.node.NewConnectionBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
 import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.PackageCompilation;
@@ -76,6 +77,8 @@ public class ConnectorSearchCommand extends SearchCommand {
     public static final String GRPC = "grpc";
     public static final String PERSIST = "persist";
 
+    private List<SearchResult> localConnectors;
+
     public ConnectorSearchCommand(Project project, LineRange position, Map<String, String> queryMap) {
         super(project, position, queryMap);
     }
@@ -86,7 +89,7 @@ public class ConnectorSearchCommand extends SearchCommand {
         Category.Builder localCategoryBuilder = rootBuilder.stepIn("Local", null, null);
         localConnectors.forEach(connection -> localCategoryBuilder.node(generateAvailableNode(connection, true)));
 
-        Map<String, List<SearchResult>> categories = fetchPopularItems();
+        Map<String, List<SearchResult>> categories = defaultViewHolder.get(this);
         for (Map.Entry<String, List<SearchResult>> entry : categories.entrySet()) {
             Category.Builder categoryBuilder = rootBuilder.stepIn(entry.getKey(), null, null);
             entry.getValue().forEach(searchResult -> categoryBuilder.node(generateAvailableNode(searchResult)));
@@ -97,10 +100,13 @@ public class ConnectorSearchCommand extends SearchCommand {
 
     @Override
     protected List<Item> search() {
-        List<SearchResult> localConnectors = getLocalConnectors();
-        localConnectors.forEach(connector -> rootBuilder.node(generateAvailableNode(connector, true)));
+        if (isFirstPage()) {
+            List<SearchResult> localConnectors = getLocalConnectors();
+            localConnectors.forEach(connector -> rootBuilder.node(generateAvailableNode(connector, true)));
+        }
 
-        List<SearchResult> searchResults = dbManager.searchConnectors(query, limit, offset);
+        List<SearchResult> searchResults = cursor == null ? dbManager.searchConnectors(query, limit, offset) :
+                readPage(dbManager.searchConnectors(query, limit, cursor));
         searchResults.forEach(searchResult -> rootBuilder.node(generateAvailableNode(searchResult)));
 
         return rootBuilder.build().items();
@@ -108,6 +114,11 @@ public class ConnectorSearchCommand extends SearchCommand {
 
     @Override
     protected Map<String, List<SearchResult>> fetchPopularItems() {
+        return fetchPopularConnectors(limit, offset);
+    }
+
+    static Map<String, List<SearchResult>> fetchPopularConnectors(int limit, int offset) {
+        SearchDatabaseManager dbManager = SearchDatabaseManager.getInstance();
         Map<String, List<String>> categories = LocalIndexCentral.getInstance()
                 .readJsonResource(CONNECTORS_LANDING_JSON, CONNECTION_CATEGORY_LIST_TYPE);
 
@@ -164,7 +175,22 @@ public class ConnectorSearchCommand extends SearchCommand {
         return trimmedPackageName.substring(0, 1).toUpperCase(Locale.ROOT) + trimmedPackageName.substring(1);
     }
 
+    /**
+     * Collects the connectors of the current project from its semantic model, if not collected already. This allows
+     * the semantic model to be queried before the command is executed concurrently with the other search commands.
+     */
+    void prefetchLocalConnectors() {
+        getLocalConnectors();
+    }
+
     private List<SearchResult> getLocalConnectors() {
+        if (localConnectors == null) {
+            localConnectors = collectLocalConnectors();
+        }
+        return localConnectors;
+    }
+
+    private List<SearchResult> collectLocalConnectors() {
         PackageCompilation compilation = PackageUtil.getCompilation(project);
         Iterable<Module> modules = project.currentPackage().modules();
         List<SearchResult> localConnections = new ArrayList<>();
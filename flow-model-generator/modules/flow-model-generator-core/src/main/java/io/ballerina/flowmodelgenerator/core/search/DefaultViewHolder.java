@@ -18,74 +18,203 @@
 
 package io.ballerina.flowmodelgenerator.core.search;
 
+import io.ballerina.modelgenerator.commons.RequestScheduler;
+import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
 import io.ballerina.modelgenerator.commons.SearchResult;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A singleton class that holds default view items for different search commands.
  *
  * <p>
- * This class is thread-safe and follows the lazy loading pattern. Default views are generated by calling the
- * fetchPopularItems method of the SearchCommand when first requested and then cached for subsequent calls.
+ * The default views are generated by the fetchPopularItems method of the SearchCommand, and are cached by the kind of
+ * the command, the limit, the offset and the version of the search index. A view that has expired is still returned,
+ * while it is refreshed on a background executor. Only the first request for a view waits for it to be generated,
+ * which can be avoided by prewarming the view when the language server starts.
  * </p>
  *
  * @since 2.0.0
  */
 class DefaultViewHolder {
 
-    private static volatile DefaultViewHolder instance;
-    private final Map<Class<? extends SearchCommand>, Map<String, List<SearchResult>>> defaultViewsCache;
+    private static final Logger LOGGER = Logger.getLogger(DefaultViewHolder.class.getName());
+    private static final long EXPIRY_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<Key, Entry> defaultViewsCache;
+    private final Map<Key, CompletableFuture<Map<String, List<SearchResult>>>> pendingLoads;
+
+    private static class Holder {
+
+        private static final DefaultViewHolder INSTANCE = new DefaultViewHolder();
+    }
+
+    public static DefaultViewHolder getInstance() {
+        return Holder.INSTANCE;
+    }
 
     private DefaultViewHolder() {
-        this.defaultViewsCache = new ConcurrentHashMap<>();
+        this.defaultViewsCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.pendingLoads = new HashMap<>();
     }
 
     /**
-     * Gets the singleton instance of DefaultViewHolder using double-checked locking.
+     * Gets the default view items for a specific search command. If the view is not cached yet, the fetchPopularItems
+     * method of the command is called and the result is cached. If the cached view has expired, it is returned and
+     * refreshed in the background.
      *
-     * @return The singleton instance
+     * @param command The search command instance
+     * @return The default view items for the command
      */
-    public static DefaultViewHolder getInstance() {
-        if (instance == null) {
-            synchronized (DefaultViewHolder.class) {
-                if (instance == null) {
-                    instance = new DefaultViewHolder();
+    public Map<String, List<SearchResult>> get(SearchCommand command) {
+        Objects.requireNonNull(command, "SearchCommand cannot be null");
+        Key key = new Key(command.getClass(), command.limit, command.offset, getIndexVersion());
+        Supplier<Map<String, List<SearchResult>>> loader = command::fetchPopularItems;
+
+        CompletableFuture<Map<String, List<SearchResult>>> pendingLoad;
+        boolean isLoader = false;
+        synchronized (defaultViewsCache) {
+            Entry entry = defaultViewsCache.get(key);
+            if (entry != null) {
+                if (entry.isExpired()) {
+                    refresh(key, loader);
                 }
+                return entry.items();
+            }
+            pendingLoad = pendingLoads.get(key);
+            if (pendingLoad == null) {
+                pendingLoad = new CompletableFuture<>();
+                pendingLoads.put(key, pendingLoad);
+                isLoader = true;
             }
         }
-        return instance;
+
+        // Generate the view outside the lock, so that the views of other commands are not blocked by it
+        return isLoader ? load(key, loader, pendingLoad) : pendingLoad.join();
     }
 
     /**
-     * Gets the default view items for a specific search command. If this is the first request for this command type,
-     * its defaultView() method is called and the result is cached.
+     * Generates the default view of a search command in the background, unless it is cached already.
      *
-     * @param command The search command instance
-     * @return The default view items for the command
+     * @param commandClass The class of the search command
+     * @param limit        The limit of the default view
+     * @param offset       The offset of the default view
+     * @param loader       The supplier generating the default view
      */
-    public Map<String, List<SearchResult>> get(SearchCommand command) {
-        Objects.requireNonNull(command, "SearchCommand cannot be null");
+    public void prewarm(Class<? extends SearchCommand> commandClass, int limit, int offset,
+                        Supplier<Map<String, List<SearchResult>>> loader) {
+        runInBackground(() -> {
+            Key key = new Key(commandClass, limit, offset, getIndexVersion());
+            synchronized (defaultViewsCache) {
+                if (!defaultViewsCache.containsKey(key)) {
+                    refresh(key, loader);
+                }
+            }
+        });
+    }
 
-        Class<? extends SearchCommand> commandClass = command.getClass();
+    /**
+     * Removes all the cached default views.
+     */
+    public void clear() {
+        synchronized (defaultViewsCache) {
+            defaultViewsCache.clear();
+        }
+    }
 
-        // Return cached view if already generated
-        if (defaultViewsCache.containsKey(commandClass)) {
-            return defaultViewsCache.get(commandClass);
+    /**
+     * Generates the view of the given key in the background, unless it is being generated already. Must be called
+     * while holding the lock of the cache.
+     */
+    private void refresh(Key key, Supplier<Map<String, List<SearchResult>>> loader) {
+        if (pendingLoads.containsKey(key)) {
+            return;
         }
+        CompletableFuture<Map<String, List<SearchResult>>> pendingLoad = new CompletableFuture<>();
+        pendingLoads.put(key, pendingLoad);
+        if (!runInBackground(() -> load(key, loader, pendingLoad))) {
+            // Keep serving the cached view, which is refreshed by a later request
+            pendingLoads.remove(key);
+        }
+    }
 
-        // Generate and cache the view using the command's defaultView() method
-        synchronized (defaultViewsCache) {
-            // Check again in case another thread has populated the cache while we were waiting
-            if (!defaultViewsCache.containsKey(commandClass)) {
-                Map<String, List<SearchResult>> items = command.fetchPopularItems();
-                defaultViewsCache.put(commandClass, Collections.unmodifiableMap(items));
+    private Map<String, List<SearchResult>> load(Key key, Supplier<Map<String, List<SearchResult>>> loader,
+                                                 CompletableFuture<Map<String, List<SearchResult>>> pendingLoad) {
+        try {
+            Map<String, List<SearchResult>> items = Collections.unmodifiableMap(loader.get());
+            synchronized (defaultViewsCache) {
+                defaultViewsCache.put(key, new Entry(items, System.nanoTime()));
+                pendingLoads.remove(key);
             }
-            return defaultViewsCache.get(commandClass);
+            pendingLoad.complete(items);
+            return items;
+        } catch (RuntimeException e) {
+            synchronized (defaultViewsCache) {
+                pendingLoads.remove(key);
+            }
+            pendingLoad.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static boolean runInBackground(Runnable task) {
+        try {
+            RequestScheduler.getInstance().executor(RequestScheduler.Kind.HEAVY).execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Failed to generate a default view", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static String getIndexVersion() {
+        return SearchDatabaseManager.getInstance().getIndexVersion();
+    }
+
+    /**
+     * Represents the key of a default view.
+     *
+     * @param commandClass the class of the search command
+     * @param limit        the limit of the default view
+     * @param offset       the offset of the default view
+     * @param indexVersion the version of the search index the view is generated from
+     */
+    private record Key(Class<? extends SearchCommand> commandClass, int limit, int offset, String indexVersion) {
+
+    }
+
+    /**
+     * Represents a cached default view along with the time it was generated.
+     *
+     * @param items      the items of the default view
+     * @param loadedTime the time the view was generated, in nanoseconds
+     */
+    private record Entry(Map<String, List<SearchResult>> items, long loadedTime) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - loadedTime > EXPIRY_NANOS;
         }
     }
 }
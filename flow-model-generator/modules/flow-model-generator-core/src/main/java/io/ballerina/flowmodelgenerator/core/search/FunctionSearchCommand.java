@@ -18,29 +18,19 @@
 
 package io.ballerina.flowmodelgenerator.core.search;
 
-import io.ballerina.compiler.api.ModuleID;
-import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
-import io.ballerina.compiler.api.symbols.AnnotationSymbol;
-import io.ballerina.compiler.api.symbols.Documentation;
-import io.ballerina.compiler.api.symbols.FunctionSymbol;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
-import io.ballerina.compiler.api.symbols.Qualifier;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.model.Item;
 import io.ballerina.flowmodelgenerator.core.model.Metadata;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
-import io.ballerina.flowmodelgenerator.core.model.node.AutomationBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
 import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
-import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
 
@@ -48,7 +38,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Represents a command to search for functions within a module. This class extends SearchCommand and provides
@@ -71,9 +60,6 @@ import java.util.Optional;
  */
 class FunctionSearchCommand extends SearchCommand {
 
-    public static final String TOOL_ANNOTATION = "Tool";
-    private static final String BALLERINAX = "ballerinax";
-    private static final String AI_AGENT = "ai";
     private static final Map<String, List<String>> POPULAR_BALLERINA_FUNCTIONS = Map.of(
             "log", List.of("printInfo", "printDebug", "printError", "printWarn"),
             "time", List.of("utcNow", "utcFromString"),
@@ -115,87 +101,57 @@ class FunctionSearchCommand extends SearchCommand {
 
     @Override
     protected List<Item> search() {
-        buildProjectNodes();
-        List<SearchResult> functionSearchList = dbManager.searchFunctions(query, limit, offset);
+        if (isFirstPage()) {
+            buildProjectNodes();
+        }
+        List<SearchResult> functionSearchList = cursor == null ? dbManager.searchFunctions(query, limit, offset) :
+                readPage(dbManager.searchFunctions(query, limit, cursor));
         buildLibraryNodes(functionSearchList);
         return rootBuilder.build().items();
     }
 
     @Override
     protected Map<String, List<SearchResult>> fetchPopularItems() {
+        return fetchPopularFunctions(limit, offset);
+    }
+
+    static Map<String, List<SearchResult>> fetchPopularFunctions(int limit, int offset) {
         List<String> packageNames = new ArrayList<>(POPULAR_BALLERINA_FUNCTIONS.keySet());
         List<String> functionNames = POPULAR_BALLERINA_FUNCTIONS.values().stream()
                 .flatMap(List::stream)
                 .toList();
-        return Map.of(FETCH_KEY, dbManager.searchFunctionsByPackages(packageNames, functionNames, limit, offset));
+        return Map.of(FETCH_KEY, SearchDatabaseManager.getInstance()
+                .searchFunctionsByPackages(packageNames, functionNames, limit, offset));
     }
 
     private void buildProjectNodes() {
-        Package currentPackage = project.currentPackage();
-        List<Symbol> functionSymbols = PackageUtil.getCompilation(currentPackage)
-                .getSemanticModel(currentPackage.getDefaultModule().moduleId())
-                .moduleSymbols().stream()
-                .filter(symbol -> symbol.kind().equals(SymbolKind.FUNCTION) &&
-                        !symbol.nameEquals(AutomationBuilder.MAIN_FUNCTION_NAME))
-                .toList();
         Category.Builder projectBuilder = rootBuilder.stepIn(Category.Name.CURRENT_INTEGRATION);
         Category.Builder agentToolsBuilder = rootBuilder.stepIn(Category.Name.AGENT_TOOLS);
 
         List<Item> availableNodes = new ArrayList<>();
         List<Item> availableTools = new ArrayList<>();
-        for (Symbol symbol : functionSymbols) {
-            FunctionSymbol functionSymbol = (FunctionSymbol) symbol;
-            if (functionsDoc != null
-                    && CommonUtils.isNaturalExpressionBodiedFunction(functionsDoc.syntaxTree(), functionSymbol)) {
-                // Skip NP functions
+        String lowerCaseQuery = query.toLowerCase(Locale.ROOT);
+        for (LocalFunctionCatalog.LocalFunction function : LocalFunctionCatalog.getInstance().get(project,
+                functionsDoc)) {
+            // Skip the main function and NP functions
+            if (function.isMain() || function.isNaturalFunction()) {
                 continue;
             }
 
-            boolean isDataMappedFunction = false;
-            Optional<Location> location = symbol.getLocation();
-            if (location.isPresent()) {
-                isDataMappedFunction = location.get().lineRange().fileName().equals(DATA_MAPPER_FILE_NAME);
-                LineRange fnLineRange = location.get().lineRange();
-                if (fnLineRange.fileName().equals(position.fileName()) &&
-                        PositionUtil.isWithinLineRange(fnLineRange, position)) {
-                    continue;
-                }
-            }
-
-            if (symbol.getName().isEmpty() ||
-                    (!query.isEmpty() && !symbol.getName().get().toLowerCase(Locale.ROOT)
-                            .contains(query.toLowerCase(Locale.ROOT)))) {
+            LineRange fnLineRange = function.lineRange();
+            if (fnLineRange != null && fnLineRange.fileName().equals(position.fileName()) &&
+                    PositionUtil.isWithinLineRange(fnLineRange, position)) {
                 continue;
             }
 
-            boolean isAgentTool = isAgentTool(functionSymbol);
-            boolean isIsolatedFunction = functionSymbol.qualifiers().contains(Qualifier.ISOLATED);
-            Metadata metadata = new Metadata.Builder<>(null)
-                    .label(symbol.getName().get())
-                    .description(functionSymbol.documentation()
-                            .flatMap(Documentation::description)
-                            .orElse(null))
-                    .addData("isDataMappedFunction", isDataMappedFunction)
-                    .addData("isAgentTool", isAgentTool)
-                    .addData("isIsolatedFunction", isIsolatedFunction)
-                    .build();
-
-            Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
-                    .node(NodeKind.FUNCTION_CALL)
-                    .symbol(symbol.getName().get());
-            Optional<ModuleSymbol> moduleSymbol = functionSymbol.getModule();
-            if (moduleSymbol.isPresent()) {
-                ModuleID id = moduleSymbol.get().id();
-                codedataBuilder
-                        .org(id.orgName())
-                        .module(id.packageName())
-                        .version(id.version());
+            if (!function.matches(lowerCaseQuery)) {
+                continue;
             }
 
-            if (isAgentTool) {
-                availableTools.add(new AvailableNode(metadata, codedataBuilder.build(), true));
+            if (function.isAgentTool()) {
+                availableTools.add(function.node());
             } else {
-                availableNodes.add(new AvailableNode(metadata, codedataBuilder.build(), true));
+                availableNodes.add(function.node());
             }
         }
         projectBuilder.items(availableNodes);
@@ -233,26 +189,4 @@ class FunctionSearchCommand extends SearchCommand {
             }
         }
     }
-
-    private boolean isAgentTool(FunctionSymbol functionSymbol) {
-        for (AnnotationAttachmentSymbol annotAttachment : functionSymbol.annotAttachments()) {
-            AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
-            Optional<ModuleSymbol> optModule = annotationSymbol.getModule();
-            if (optModule.isEmpty()) {
-                continue;
-            }
-            ModuleID id = optModule.get().id();
-            if (!(id.orgName().equals(BALLERINAX) && id.packageName().equals(AI_AGENT))) {
-                continue;
-            }
-            Optional<String> optName = annotationSymbol.getName();
-            if (optName.isEmpty()) {
-                continue;
-            }
-            if (optName.get().equals(TOOL_ANNOTATION)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
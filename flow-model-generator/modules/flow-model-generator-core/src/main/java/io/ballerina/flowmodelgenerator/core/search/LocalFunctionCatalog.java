@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.search;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Qualifier;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.Constants;
+import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
+import io.ballerina.flowmodelgenerator.core.model.Codedata;
+import io.ballerina.flowmodelgenerator.core.model.Metadata;
+import io.ballerina.flowmodelgenerator.core.model.NodeKind;
+import io.ballerina.flowmodelgenerator.core.model.node.AutomationBuilder;
+import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Catalog of the functions defined in the default module of the projects, which are listed by the function and the
+ * natural function searches.
+ *
+ * <p>
+ * The functions of a project are collected from the compilation of its package along with their nodes, and are reused
+ * by the searches until the package is compiled again or the document of the natural functions changes. The catalogs
+ * of the least recently searched projects are evicted beyond a fixed bound.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class LocalFunctionCatalog {
+
+    private static final int MAX_PROJECTS = 8;
+    private static final String TOOL_ANNOTATION = "Tool";
+    private static final String BALLERINAX = "ballerinax";
+    private static final String AI_AGENT = "ai";
+
+    private final Map<Path, Catalog> catalogs;
+
+    private static class Holder {
+
+        private static final LocalFunctionCatalog INSTANCE = new LocalFunctionCatalog();
+    }
+
+    public static LocalFunctionCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private LocalFunctionCatalog() {
+        this.catalogs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Catalog> eldest) {
+                return size() > MAX_PROJECTS;
+            }
+        };
+    }
+
+    /**
+     * Returns the functions of the default module of the given project, in the order of the module symbols.
+     *
+     * @param project      the project to search
+     * @param functionsDoc the document defining the natural functions, or null if the project has none
+     * @return the functions of the project
+     */
+    public List<LocalFunction> get(Project project, Document functionsDoc) {
+        Package currentPackage = project.currentPackage();
+        PackageCompilation compilation = PackageUtil.getCompilation(currentPackage);
+        SyntaxTree functionsSyntaxTree = functionsDoc == null ? null : functionsDoc.syntaxTree();
+        Path sourceRoot = project.sourceRoot();
+        synchronized (catalogs) {
+            Catalog catalog = catalogs.get(sourceRoot);
+            if (catalog != null && catalog.isFor(compilation, functionsSyntaxTree)) {
+                return catalog.functions();
+            }
+        }
+
+        List<LocalFunction> functions = collectFunctions(currentPackage, compilation, functionsSyntaxTree);
+        synchronized (catalogs) {
+            catalogs.put(sourceRoot, new Catalog(new WeakReference<>(compilation),
+                    new WeakReference<>(functionsSyntaxTree), functions));
+        }
+        return functions;
+    }
+
+    /**
+     * Removes the catalogs of all the projects.
+     */
+    public void clear() {
+        synchronized (catalogs) {
+            catalogs.clear();
+        }
+    }
+
+    private static List<LocalFunction> collectFunctions(Package currentPackage, PackageCompilation compilation,
+                                                        SyntaxTree functionsSyntaxTree) {
+        List<LocalFunction> functions = new ArrayList<>();
+        for (Symbol symbol : compilation.getSemanticModel(currentPackage.getDefaultModule().moduleId())
+                .moduleSymbols()) {
+            if (!symbol.kind().equals(SymbolKind.FUNCTION) || symbol.getName().isEmpty()) {
+                continue;
+            }
+            FunctionSymbol functionSymbol = (FunctionSymbol) symbol;
+            String name = symbol.getName().get();
+            boolean isNaturalFunction = functionsSyntaxTree != null &&
+                    CommonUtils.isNaturalExpressionBodiedFunction(functionsSyntaxTree, functionSymbol);
+            LineRange lineRange = symbol.getLocation().map(Location::lineRange).orElse(null);
+            boolean isAgentTool = !isNaturalFunction && isAgentTool(functionSymbol);
+            AvailableNode node = isNaturalFunction ? buildNaturalFunctionNode(functionSymbol, name) :
+                    buildFunctionNode(functionSymbol, name, lineRange, isAgentTool);
+            functions.add(new LocalFunction(name, name.toLowerCase(Locale.ROOT), lineRange,
+                    name.equals(AutomationBuilder.MAIN_FUNCTION_NAME), isNaturalFunction, isAgentTool, node));
+        }
+        return List.copyOf(functions);
+    }
+
+    private static AvailableNode buildFunctionNode(FunctionSymbol functionSymbol, String name, LineRange lineRange,
+                                                   boolean isAgentTool) {
+        boolean isDataMappedFunction = lineRange != null &&
+                lineRange.fileName().equals(SearchCommand.DATA_MAPPER_FILE_NAME);
+        boolean isIsolatedFunction = functionSymbol.qualifiers().contains(Qualifier.ISOLATED);
+        Metadata metadata = new Metadata.Builder<>(null)
+                .label(name)
+                .description(functionSymbol.documentation()
+                        .flatMap(Documentation::description)
+                        .orElse(null))
+                .addData("isDataMappedFunction", isDataMappedFunction)
+                .addData("isAgentTool", isAgentTool)
+                .addData("isIsolatedFunction", isIsolatedFunction)
+                .build();
+
+        Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
+                .node(NodeKind.FUNCTION_CALL)
+                .symbol(name);
+        setModule(codedataBuilder, functionSymbol);
+        return new AvailableNode(metadata, codedataBuilder.build(), true);
+    }
+
+    private static AvailableNode buildNaturalFunctionNode(FunctionSymbol functionSymbol, String name) {
+        Metadata metadata = new Metadata.Builder<>(null)
+                .label(name)
+                .icon(Constants.NaturalFunctions.ICON)
+                .description(functionSymbol.documentation()
+                        .flatMap(Documentation::description)
+                        .orElse(null))
+                .build();
+
+        Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
+                .node(NodeKind.NP_FUNCTION_CALL)
+                .symbol(name);
+        setModule(codedataBuilder, functionSymbol);
+        return new AvailableNode(metadata, codedataBuilder.build(), true);
+    }
+
+    private static void setModule(Codedata.Builder<Object> codedataBuilder, FunctionSymbol functionSymbol) {
+        Optional<ModuleSymbol> moduleSymbol = functionSymbol.getModule();
+        if (moduleSymbol.isPresent()) {
+            ModuleID id = moduleSymbol.get().id();
+            codedataBuilder
+                    .org(id.orgName())
+                    .module(id.packageName())
+                    .version(id.version());
+        }
+    }
+
+    private static boolean isAgentTool(FunctionSymbol functionSymbol) {
+        for (AnnotationAttachmentSymbol annotAttachment : functionSymbol.annotAttachments()) {
+            AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
+            Optional<ModuleSymbol> optModule = annotationSymbol.getModule();
+            if (optModule.isEmpty()) {
+                continue;
+            }
+            ModuleID id = optModule.get().id();
+            if (!(id.orgName().equals(BALLERINAX) && id.packageName().equals(AI_AGENT))) {
+                continue;
+            }
+            Optional<String> optName = annotationSymbol.getName();
+            if (optName.isEmpty()) {
+                continue;
+            }
+            if (optName.get().equals(TOOL_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Represents a function defined in the default module of a project.
+     *
+     * @param name              the name of the function
+     * @param lowerCaseName     the name of the function in lower case, which is matched against the query
+     * @param lineRange         the location of the function, or null if it is unknown
+     * @param isMain            whether the function is the main function
+     * @param isNaturalFunction whether the body of the function is a natural expression
+     * @param isAgentTool       whether the function is annotated as an agent tool
+     * @param node              the node of the function listed by the searches
+     */
+    record LocalFunction(String name, String lowerCaseName, LineRange lineRange, boolean isMain,
+                         boolean isNaturalFunction, boolean isAgentTool, AvailableNode node) {
+
+        /**
+         * Returns whether the name of the function contains the given query, ignoring the case.
+         *
+         * @param lowerCaseQuery the query in lower case, or an empty string to match every function
+         * @return true if the function matches the query
+         */
+        boolean matches(String lowerCaseQuery) {
+            return lowerCaseQuery.isEmpty() || lowerCaseName.contains(lowerCaseQuery);
+        }
+    }
+
+    /**
+     * Represents the functions of a project collected from a compilation of its package.
+     */
+    private record Catalog(WeakReference<PackageCompilation> compilation,
+                           WeakReference<SyntaxTree> functionsSyntaxTree, List<LocalFunction> functions) {
+
+        private boolean isFor(PackageCompilation currentCompilation, SyntaxTree currentFunctionsSyntaxTree) {
+            return compilation.get() == currentCompilation &&
+                    functionsSyntaxTree.get() == currentFunctionsSyntaxTree;
+        }
+    }
+}
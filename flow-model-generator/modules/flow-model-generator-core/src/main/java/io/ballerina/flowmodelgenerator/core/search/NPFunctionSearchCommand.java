@@ -18,24 +18,10 @@
 
 package io.ballerina.flowmodelgenerator.core.search;
 
-import io.ballerina.compiler.api.ModuleID;
-import io.ballerina.compiler.api.symbols.Documentation;
-import io.ballerina.compiler.api.symbols.FunctionSymbol;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.flowmodelgenerator.core.Constants;
-import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
-import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.model.Item;
-import io.ballerina.flowmodelgenerator.core.model.Metadata;
-import io.ballerina.flowmodelgenerator.core.model.NodeKind;
-import io.ballerina.modelgenerator.commons.CommonUtils;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LineRange;
 
@@ -43,7 +29,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Represents a command to search for natural programming functions within a module.
@@ -79,49 +64,15 @@ class NPFunctionSearchCommand extends SearchCommand {
     }
 
     private void buildProjectNodes() {
-        Package currentPackage = project.currentPackage();
-        List<Symbol> functionSymbols = PackageUtil.getCompilation(currentPackage)
-                .getSemanticModel(currentPackage.getDefaultModule().moduleId())
-                .moduleSymbols().stream()
-                .filter(symbol -> symbol.kind().equals(SymbolKind.FUNCTION)).toList();
         Category.Builder projectBuilder = rootBuilder.stepIn(Category.Name.CURRENT_INTEGRATION);
 
         List<Item> availableNodes = new ArrayList<>();
-        for (Symbol symbol : functionSymbols) {
-            FunctionSymbol functionSymbol = (FunctionSymbol) symbol;
-            if (functionsDoc == null ||
-                    !CommonUtils.isNaturalExpressionBodiedFunction(functionsDoc.syntaxTree(), functionSymbol)) {
-                continue;
+        String lowerCaseQuery = query.toLowerCase(Locale.ROOT);
+        for (LocalFunctionCatalog.LocalFunction function : LocalFunctionCatalog.getInstance().get(project,
+                functionsDoc)) {
+            if (function.isNaturalFunction() && function.matches(lowerCaseQuery)) {
+                availableNodes.add(function.node());
             }
-
-            if (symbol.getName().isEmpty() ||
-                    (!query.isEmpty() && !symbol.getName().get().toLowerCase(Locale.ROOT)
-                            .contains(query.toLowerCase(Locale.ROOT)))) {
-                continue;
-            }
-
-            Metadata metadata = new Metadata.Builder<>(null)
-                    .label(symbol.getName().get())
-                    .icon(Constants.NaturalFunctions.ICON)
-                    .description(functionSymbol.documentation()
-                            .flatMap(Documentation::description)
-                            .orElse(null))
-                    .build();
-
-            Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
-                    .node(NodeKind.NP_FUNCTION_CALL)
-                    .symbol(symbol.getName().get());
-
-            Optional<ModuleSymbol> moduleSymbol = functionSymbol.getModule();
-            if (moduleSymbol.isPresent()) {
-                ModuleID id = moduleSymbol.get().id();
-                codedataBuilder
-                        .org(id.orgName())
-                        .module(id.packageName())
-                        .version(id.version());
-            }
-
-            availableNodes.add(new AvailableNode(metadata, codedataBuilder.build(), true));
         }
         projectBuilder.items(availableNodes);
     }
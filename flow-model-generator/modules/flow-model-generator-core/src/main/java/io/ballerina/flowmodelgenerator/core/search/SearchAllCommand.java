@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.search;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.modelgenerator.commons.CancellationToken;
+import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Represents a command to search for multiple kinds of items at once, such as functions, connectors and types.
+ *
+ * <p>
+ * The project is compiled and the functions of the project are collected once, before the search commands of the
+ * kinds are created, and the connectors of the project are collected from its semantic model before the commands are
+ * handed over, so that the concurrent commands only read the search index and the items prepared for them. The
+ * commands are then executed concurrently on the executor of the interactive requests. The calling thread executes the
+ * commands that have not been started by the executor yet, so that the search completes even when the executor is
+ * saturated.
+ * </p>
+ *
+ * <p>
+ * The categories are grouped per kind on purpose, under the name of the kind, rather than merged into a single
+ * ranking. The kinds are shown in separate sections of the search panel, each with its own limit and cursor, and the
+ * relevance of the items of different kinds is computed over different tables of the index, which is not comparable.
+ * </p>
+ *
+ * <p>
+ * The searches of the kinds given a {@code cursor} in their query parameters are read page by page, and the cursors of
+ * their next pages are available from {@link #getNextCursors()} once the command is executed.
+ * </p>
+ *
+ * @see SearchCommand
+ * @since 2.0.0
+ */
+public class SearchAllCommand {
+
+    private final Map<SearchCommand.Kind, Map<String, String>> queryMaps;
+    private final Project project;
+    private final LineRange position;
+    private final Document functionsDoc;
+    private final Map<SearchCommand.Kind, String> nextCursors;
+
+    /**
+     * Creates a command searching for the given kinds of items.
+     *
+     * @param queryMaps    the query parameters of each kind to search for
+     * @param project      the project to search
+     * @param position     the line range of the current position
+     * @param functionsDoc the document defining the natural functions, or null if the project has none
+     */
+    public SearchAllCommand(Map<SearchCommand.Kind, Map<String, String>> queryMaps, Project project,
+                            LineRange position, Document functionsDoc) {
+        this.queryMaps = new EnumMap<>(queryMaps);
+        this.project = project;
+        this.position = position;
+        this.functionsDoc = functionsDoc;
+        this.nextCursors = new EnumMap<>(SearchCommand.Kind.class);
+    }
+
+    /**
+     * Executes the searches of all the kinds.
+     *
+     * @return the categories of each kind, keyed by the name of the kind
+     */
+    public JsonObject execute() {
+        CancellationToken token = CancellationToken.current();
+        PackageUtil.getCompilation(project);
+        if (queryMaps.containsKey(SearchCommand.Kind.FUNCTION) ||
+                queryMaps.containsKey(SearchCommand.Kind.NP_FUNCTION)) {
+            LocalFunctionCatalog.getInstance().get(project, functionsDoc);
+        }
+
+        List<SearchTask> tasks = new ArrayList<>();
+        for (Map.Entry<SearchCommand.Kind, Map<String, String>> entry : queryMaps.entrySet()) {
+            SearchCommand command = SearchCommand.from(entry.getKey(), project, position, entry.getValue(),
+                    functionsDoc);
+            if (command instanceof ConnectorSearchCommand connectorSearchCommand) {
+                // The semantic model is not queried concurrently by the commands
+                connectorSearchCommand.prefetchLocalConnectors();
+            }
+            tasks.add(new SearchTask(entry.getKey(), command, token));
+        }
+
+        // Hand over all the commands but the first one to the executor, and execute the remaining ones in this thread
+        Executor executor = RequestScheduler.getInstance().executor(RequestScheduler.Kind.INTERACTIVE);
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i)::run);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        tasks.forEach(SearchTask::run);
+
+        JsonObject categories = new JsonObject();
+        for (SearchTask task : tasks) {
+            categories.add(task.kind.name(), task.join());
+            String nextCursor = task.command.getNextCursor();
+            if (nextCursor != null) {
+                nextCursors.put(task.kind, nextCursor);
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * Returns the cursors of the next pages of the kinds read page by page, after the command is executed.
+     *
+     * @return the cursor of the next page of each kind that has one
+     */
+    public Map<SearchCommand.Kind, String> getNextCursors() {
+        return Collections.unmodifiableMap(nextCursors);
+    }
+
+    /**
+     * Represents the execution of a search command, which is run by the first thread claiming it.
+     */
+    private static final class SearchTask {
+
+        private final SearchCommand.Kind kind;
+        private final SearchCommand command;
+        private final CancellationToken token;
+        private final AtomicBoolean claimed;
+        private final CompletableFuture<JsonArray> result;
+
+        private SearchTask(SearchCommand.Kind kind, SearchCommand command, CancellationToken token) {
+            this.kind = kind;
+            this.command = command;
+            this.token = token;
+            this.claimed = new AtomicBoolean();
+            this.result = new CompletableFuture<>();
+        }
+
+        private void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                token.checkCanceled();
+                result.complete(command.execute());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private JsonArray join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.google.gson.JsonArray;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Item;
 import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
+import io.ballerina.modelgenerator.commons.SearchPage;
 import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
@@ -39,6 +40,10 @@ import java.util.Map;
  * which returns the appropriate implementation based on the specified kind. The class follows the command design
  * pattern allowing to execute various search strategies depending on the commands.</p>
  *
+ * <p>A search is read page by page through server-side cursors when the query parameters contain a {@code cursor},
+ * which is empty for the first page and the cursor returned with the previous page otherwise. The offset is ignored
+ * in this mode, and the items of the current project are only listed on the first page.</p>
+ *
  * @since 2.0.0
  */
 public abstract class SearchCommand {
@@ -49,6 +54,8 @@ public abstract class SearchCommand {
     protected final String query;
     protected final int limit;
     protected final int offset;
+    protected final String cursor;
+    protected String nextCursor;
     final SearchDatabaseManager dbManager;
     final DefaultViewHolder defaultViewHolder;
 
@@ -68,6 +75,18 @@ public abstract class SearchCommand {
         };
     }
 
+    /**
+     * Generates the default views of the search commands in the background, so that the first search does not wait
+     * for them.
+     */
+    public static void prewarmDefaultViews() {
+        DefaultViewHolder defaultViewHolder = DefaultViewHolder.getInstance();
+        defaultViewHolder.prewarm(FunctionSearchCommand.class, DEFAULT_LIMIT, DEFAULT_OFFSET,
+                () -> FunctionSearchCommand.fetchPopularFunctions(DEFAULT_LIMIT, DEFAULT_OFFSET));
+        defaultViewHolder.prewarm(ConnectorSearchCommand.class, DEFAULT_LIMIT, DEFAULT_OFFSET,
+                () -> ConnectorSearchCommand.fetchPopularConnectors(DEFAULT_LIMIT, DEFAULT_OFFSET));
+    }
+
     public SearchCommand(Project project, LineRange position, Map<String, String> queryMap) {
         this.rootBuilder = new Category.Builder(null);
         this.project = project;
@@ -79,10 +98,12 @@ public abstract class SearchCommand {
             this.query = "";
             this.limit = DEFAULT_LIMIT;
             this.offset = DEFAULT_OFFSET;
+            this.cursor = null;
         } else {
             this.query = queryMap.getOrDefault("q", "");
             this.limit = parseIntParam(queryMap.get("limit"), DEFAULT_LIMIT);
             this.offset = parseIntParam(queryMap.get("offset"), DEFAULT_OFFSET);
+            this.cursor = queryMap.get("cursor");
         }
     }
 
@@ -117,6 +138,36 @@ public abstract class SearchCommand {
         return GSON.toJsonTree(items).getAsJsonArray();
     }
 
+    /**
+     * Returns the cursor of the next page of the search, which is only set when the search is read page by page.
+     *
+     * @return the cursor of the next page, or null if there is no next page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Returns whether the first page of the search is being read, which is always the case unless the search is read
+     * page by page.
+     *
+     * @return true if the first page is being read
+     */
+    protected boolean isFirstPage() {
+        return cursor == null || cursor.isEmpty();
+    }
+
+    /**
+     * Records the cursor of the next page of the search.
+     *
+     * @param page the page read from the search index
+     * @return the results of the page
+     */
+    protected List<SearchResult> readPage(SearchPage page) {
+        nextCursor = page.nextCursor();
+        return page.results();
+    }
+
     /**
      * Utility method to parse string parameters to integers with default values.
      *
@@ -82,7 +82,8 @@ class TypeSearchCommand extends SearchCommand {
 
     @Override
     protected List<Item> search() {
-        List<SearchResult> typeSearchList = dbManager.searchTypes(query, limit, offset);
+        List<SearchResult> typeSearchList = cursor == null ? dbManager.searchTypes(query, limit, offset) :
+                readPage(dbManager.searchTypes(query, limit, cursor));
         buildLibraryNodes(typeSearchList, true);
         return rootBuilder.build().items();
     }
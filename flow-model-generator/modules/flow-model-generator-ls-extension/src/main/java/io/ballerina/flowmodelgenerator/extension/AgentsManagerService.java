@@ -36,6 +36,7 @@ import io.ballerina.flowmodelgenerator.extension.response.GetMemoryManagersRespo
 import io.ballerina.flowmodelgenerator.extension.response.GetModelsResponse;
 import io.ballerina.flowmodelgenerator.extension.response.GetToolsResponse;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -68,7 +69,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetAgentsResponse> getAllAgents(GetAllAgentsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GetAgentsResponse response = new GetAgentsResponse();
             try {
                 Optional<SemanticModel> semanticModel = PackageUtil.getSemanticModel(BALLERINAX, AI_AGENT);
@@ -87,7 +88,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetModelsResponse> getAllModels(GetAllModelsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GetModelsResponse response = new GetModelsResponse();
             try {
                 Optional<SemanticModel> semanticModel = PackageUtil.getSemanticModel(BALLERINAX, AI_AGENT);
@@ -106,7 +107,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetMemoryManagersResponse> getAllMemoryManagers(GetAllMemoryManagersRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GetMemoryManagersResponse response = new GetMemoryManagersResponse();
             try {
                 Optional<SemanticModel> semanticModel = PackageUtil.getSemanticModel(BALLERINAX, AI_AGENT);
@@ -125,7 +126,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetModelsResponse> getModels(GetModelsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GetModelsResponse response = new GetModelsResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -147,7 +148,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetToolsResponse> getTools(GetToolsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GetToolsResponse response = new GetToolsResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -168,7 +169,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GenToolResponse> genTool(GenToolRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             GenToolResponse response = new GenToolResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -190,7 +191,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<GetConnectorActionsResponse> getActions(GetConnectorActionsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             GetConnectorActionsResponse response = new GetConnectorActionsResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -212,7 +213,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<EditToolResponse> editTool(EditToolRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             EditToolResponse response = new EditToolResponse();
             try {
                 Path projectPath = Path.of(request.projectPath());
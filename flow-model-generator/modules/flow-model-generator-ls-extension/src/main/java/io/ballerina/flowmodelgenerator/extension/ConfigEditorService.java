@@ -27,6 +27,7 @@ import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesGetReque
 import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesUpdateResponse;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -81,7 +82,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
     @JsonRequest
     @SuppressWarnings("unused")
     public CompletableFuture<ConfigVariablesResponse> getConfigVariables(ConfigVariablesGetRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             ConfigVariablesResponse response = new ConfigVariablesResponse();
             try {
                 Path projectFolder = Path.of(request.projectPath());
@@ -119,7 +120,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
     public CompletableFuture<ConfigVariablesUpdateResponse> updateConfigVariables(
             ConfigVariablesUpdateRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             ConfigVariablesUpdateResponse response = new ConfigVariablesUpdateResponse();
             try {
                 FlowNode configVariable = gson.fromJson(request.configVariable(), FlowNode.class);
@@ -31,6 +31,7 @@ import io.ballerina.flowmodelgenerator.extension.response.DataMapperModelRespons
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperSourceResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperTypesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperVisualizeResponse;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -62,7 +63,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperTypesResponse> types(DataMapperTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             DataMapperTypesResponse response = new DataMapperTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -85,7 +86,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperModelResponse> mappings(DataMapperModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             DataMapperModelResponse response = new DataMapperModelResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -107,7 +108,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> getSource(DataMapperSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 DataMapManager dataMapManager = new DataMapManager(null, null);
@@ -122,7 +123,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> convertToQuery(DataMapperQueryConvertRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -144,7 +145,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperVisualizeResponse> visualizable(DataMapperVisualizeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             DataMapperVisualizeResponse response = new DataMapperVisualizeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -165,7 +166,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperAddElementResponse> addElement(DataMapperAddElementRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             DataMapperAddElementResponse response = new DataMapperAddElementResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -25,6 +25,7 @@ import io.ballerina.flowmodelgenerator.core.VisibleVariableTypesGenerator;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.DocumentContext;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.ScratchDocumentManager;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.CompletionRequest;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DiagnosticsRequest;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.SignatureHelpRequest;
@@ -33,6 +34,7 @@ import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorComplet
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorDiagnosticsRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorSignatureRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorTypesRequest;
+import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FunctionCallTemplateRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ImportModuleRequest;
 import io.ballerina.flowmodelgenerator.extension.request.VisibleVariableTypeRequest;
@@ -42,6 +44,7 @@ import io.ballerina.flowmodelgenerator.extension.response.VisibleVariableTypesRe
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.CompilationOptions;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
@@ -92,9 +95,10 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<VisibleVariableTypesResponse> visibleVariableTypes(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             VisibleVariableTypesResponse response = new VisibleVariableTypesResponse();
             try {
+                ScratchDocumentManager.getInstance().release(CommonUtils.getExprUri(request.filePath()));
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManagerProxy.get().loadProject(filePath);
                 DocumentContext documentContext = new DocumentContext(workspaceManagerProxy, filePath);
@@ -117,8 +121,9 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> types(ExpressionEditorTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             try {
+                ScratchDocumentManager.getInstance().release(CommonUtils.getExprUri(request.filePath()));
                 Path filePath = Path.of(request.filePath());
                 DocumentContext documentContext = new DocumentContext(workspaceManagerProxy, filePath);
                 return TypesGenerator.getInstance()
@@ -170,9 +175,23 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 )));
     }
 
+    /**
+     * Releases the expression editor session of a file, which should be requested when a form is closed. The
+     * statement retained in the document by the completion, signature help and diagnostics requests of the form is
+     * reverted. A session that is not released is reverted once it has not been used for a while.
+     *
+     * @param request the path of the file of the form
+     * @return true if a retained statement was reverted
+     */
+    @JsonRequest
+    public CompletableFuture<Boolean> releaseSession(FilePathRequest request) {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE,
+                () -> ScratchDocumentManager.getInstance().release(CommonUtils.getExprUri(request.filePath())));
+    }
+
     @JsonRequest
     public CompletableFuture<FunctionCallTemplateResponse> functionCallTemplate(FunctionCallTemplateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FunctionCallTemplateResponse response = new FunctionCallTemplateResponse();
             try {
                 Codedata codedata = request.codedata();
@@ -211,7 +230,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ImportModuleResponse> importModule(ImportModuleRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             ImportModuleResponse response = new ImportModuleResponse();
             try {
                 String importStatement = request.importStatement()
@@ -229,6 +248,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                                    ImportModuleResponse response) {
         // Generate the module import and apply it
         String fileUri = CommonUtils.getExprUri(filePathString);
+        ScratchDocumentManager.getInstance().release(fileUri);
         Path filePath = Path.of(filePathString);
         ExpressionEditorContext expressionEditorContext = new ExpressionEditorContext(
                 workspaceManagerProxy,
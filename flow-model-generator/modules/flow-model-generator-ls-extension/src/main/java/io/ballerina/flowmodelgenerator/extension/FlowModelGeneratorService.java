@@ -28,6 +28,7 @@ import io.ballerina.flowmodelgenerator.core.CopilotContextGenerator;
 import io.ballerina.flowmodelgenerator.core.DeleteNodeHandler;
 import io.ballerina.flowmodelgenerator.core.EnclosedNodeFinder;
 import io.ballerina.flowmodelgenerator.core.ErrorHandlerGenerator;
+import io.ballerina.flowmodelgenerator.core.FlowModelPatchGenerator;
 import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.core.NodeTemplateGenerator;
 import io.ballerina.flowmodelgenerator.core.OpenApiServiceGenerator;
@@ -35,6 +36,7 @@ import io.ballerina.flowmodelgenerator.core.SourceGenerator;
 import io.ballerina.flowmodelgenerator.core.SuggestedComponentService;
 import io.ballerina.flowmodelgenerator.core.SuggestedModelGenerator;
 import io.ballerina.flowmodelgenerator.core.analyzers.function.ModuleNodeAnalyzer;
+import io.ballerina.flowmodelgenerator.core.search.SearchAllCommand;
 import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.flowmodelgenerator.extension.request.ComponentDeleteRequest;
@@ -49,6 +51,7 @@ import io.ballerina.flowmodelgenerator.extension.request.FlowModelSuggestedGener
 import io.ballerina.flowmodelgenerator.extension.request.FlowNodeDeleteRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FunctionDefinitionRequest;
 import io.ballerina.flowmodelgenerator.extension.request.OpenAPIServiceGenerationRequest;
+import io.ballerina.flowmodelgenerator.extension.request.SearchAllRequest;
 import io.ballerina.flowmodelgenerator.extension.request.SearchRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ServiceFieldNodesRequest;
 import io.ballerina.flowmodelgenerator.extension.request.SuggestedComponentRequest;
@@ -62,11 +65,12 @@ import io.ballerina.flowmodelgenerator.extension.response.FlowModelSourceGenerat
 import io.ballerina.flowmodelgenerator.extension.response.FlowNodeDeleteResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FunctionDefinitionResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenApiServiceGenerationResponse;
+import io.ballerina.flowmodelgenerator.extension.response.SearchAllResponse;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
-import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.ProjectForkPool;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LinePosition;
@@ -86,7 +90,10 @@ import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -107,6 +114,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        SearchCommand.prewarmDefaultViews();
     }
 
     @Override
@@ -117,7 +125,10 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getFlowModel(FlowModelGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        // Only the flow model of the latest request for a canvas is rendered, hence the pending ones are canceled
+        String supersedeKey = "getFlowModel:" + request.filePath() + ":" + request.startLine() + "-" +
+                request.endLine();
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, supersedeKey, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -136,10 +147,22 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
                 // Generate the flow design model
                 ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
-                                dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null)));
+                JsonElement flowModel = modelGenerator.getFlowModel(document.get(), request.lineRange(),
+                        dataMappingsDoc.orElse(null), functionsDoc.orElse(null), true);
+                if (request.modelVersion() == null) {
+                    response.setFlowDesignModel(flowModel);
+                    return response;
+                }
+
+                // Send only the changes from the flow model held by the client, when possible
+                FlowModelPatchGenerator.Result result = FlowModelPatchGenerator.getInstance()
+                        .generate(request.lineRange(), flowModel, request.modelVersion());
+                response.setModelVersion(result.version());
+                if (result.patch() == null) {
+                    response.setFlowDesignModel(flowModel);
+                } else {
+                    response.setFlowModelPatch(result.patch());
+                }
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -151,7 +174,9 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelGeneratorResponse> getSuggestedFlowModel(
             FlowModelSuggestedGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        String supersedeKey = "getSuggestedFlowModel:" + request.filePath() + ":" + request.startLine() + "-" +
+                request.endLine();
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, supersedeKey, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -168,70 +193,49 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 Optional<Document> dataMappingsDoc = getDocumentFromFile(projectPath, "data_mappings.bal");
                 Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
 
-                // Generate the flow design model
-                ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                JsonElement oldFlowModel =
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
-                                dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null));
-
-                // Create a temporary directory for the in-memory cache
-                Project newProject = project.duplicate();
-                DocumentId documentId = newProject.documentId(filePath);
-                Module newModule = newProject.currentPackage().module(documentId.moduleId());
-                SemanticModel newSemanticModel =
-                        PackageUtil.getCompilation(newProject).getSemanticModel(newModule.moduleId());
-                Document newDocument = newModule.document(documentId);
-                if (newSemanticModel == null || newDocument == null) {
-                    return response;
-                }
-                Optional<Document> newDataMappingsDoc;
-                Optional<Document> newFunctionsDoc;
-                try {
-                    DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
-                    Module dataMappingModule = newProject.currentPackage().module(dataMappingDocId.moduleId());
-                    newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
-
-                    DocumentId functionsDocId = newProject.documentId(projectPath.resolve("functions.bal"));
-                    Module functionsModule = newProject.currentPackage().module(functionsDocId.moduleId());
-                    newFunctionsDoc = Optional.of(functionsModule.document(functionsDocId));
-                } catch (Throwable e) {
-                    newDataMappingsDoc = Optional.empty();
-                    newFunctionsDoc = Optional.empty();
-                }
-
-                TextDocument textDocument = newDocument.textDocument();
-                int textPosition = textDocument.textPositionFrom(request.position());
-
-                TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
-                TextDocument newTextDocument =
-                        textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
-                Document newDoc = newDocument.modify()
-                        .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
-                        .apply();
-
-                int end = textDocument.textPositionFrom(request.endLine());
-                LineRange endLineRange = LineRange.from(request.lineRange().fileName(), request.lineRange().startLine(),
-                        newTextDocument.linePositionFrom(end + request.text().length()));
-
-                ModelGenerator suggestedModelGenerator =
-                        new ModelGenerator(newProject, PackageUtil.getCompilation(newProject)
-                                .getSemanticModel(newDoc.module().moduleId()), filePath);
-                JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
-                        endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null));
-
-                LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
-                LineRange newLineRange =
-                        LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
-
-                JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
-                SuggestedModelGenerator suggestedNodesGenerator =
-                        new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
-                suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
-                if (!suggestedNodesGenerator.hasSuggestedNodes()) {
-                    newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                // Fork the project to apply the suggestion without modifying the workspace. The diagnostics of the
+                // current semantic model are used to identify the erroneous suggestions, hence only the forked
+                // project is compiled once the suggestion is applied.
+                try (ProjectForkPool.Fork fork = ProjectForkPool.getInstance().acquire(project)) {
+                    Project newProject = fork.project();
+                    DocumentId documentId = newProject.documentId(filePath);
+                    Document newDocument = fork.document(documentId);
+                    if (newDocument == null) {
+                        return response;
+                    }
+                    TextDocument textDocument = newDocument.textDocument();
+                    int textPosition = textDocument.textPositionFrom(request.position());
+
+                    TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
+                    TextDocument newTextDocument =
+                            textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
+                    Document newDoc = fork.apply(documentId,
+                            String.join(System.lineSeparator(), newTextDocument.textLines()));
+
+                    int end = textDocument.textPositionFrom(request.endLine());
+                    LinePosition endLinePosition = newTextDocument.linePositionFrom(end + request.text().length());
+                    LineRange endLineRange = LineRange.from(request.lineRange().fileName(),
+                            request.lineRange().startLine(), endLinePosition);
+
+                    // Compile the forked project with the suggestion and generate the flow model of the canvas
+                    ModelGenerator suggestedModelGenerator =
+                            new ModelGenerator(newProject, fork.semanticModel(newDoc.module().moduleId()), filePath);
+                    JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
+                            endLineRange, dataMappingsDoc.orElse(null), functionsDoc.orElse(null));
+
+                    LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
+                    LineRange newLineRange =
+                            LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
+
+                    JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
+                    SuggestedModelGenerator suggestedNodesGenerator =
+                            new SuggestedModelGenerator(newDoc, newLineRange, semanticModel.get());
+                    suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
+                    if (!suggestedNodesGenerator.hasSuggestedNodes()) {
+                        newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                    }
+                    response.setFlowDesignModel(newFlowModel);
                 }
-                response.setFlowDesignModel(newFlowModel);
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -241,7 +245,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<JsonObject> getSuggestedComponents(SuggestedComponentRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             JsonObject response = new JsonObject();
             try {
                 String fileContent = request.content();
@@ -261,7 +265,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> getSourceCode(FlowModelSourceGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 SourceGenerator sourceGenerator =
@@ -278,7 +282,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelAvailableNodesResponse> getAvailableNodes(
             FlowModelAvailableNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -303,7 +307,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelNodeTemplateResponse> getNodeTemplate(FlowModelNodeTemplateRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowModelNodeTemplateResponse response = new FlowModelNodeTemplateResponse();
             try {
                 NodeTemplateGenerator generator = new NodeTemplateGenerator(lsClientLogger);
@@ -321,7 +325,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getModuleNodes(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -343,7 +347,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getServiceNodes(ServiceFieldNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -364,7 +368,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<CopilotContextResponse> getCopilotContext(CopilotContextRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             CopilotContextResponse response = new CopilotContextResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -385,7 +389,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     // TODO: Need to remove this API and usages must be migrated to `deleteComponent(ComponentDeleteRequest request)`
     public CompletableFuture<FlowNodeDeleteResponse> deleteFlowNode(FlowNodeDeleteRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowNodeDeleteResponse response = new FlowNodeDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -408,7 +412,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<ComponentDeleteResponse> deleteComponent(ComponentDeleteRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             ComponentDeleteResponse response = new ComponentDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -434,7 +438,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<OpenApiServiceGenerationResponse> generateServiceFromOpenApiContract(
             OpenAPIServiceGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.HEAVY, () -> {
             OpenApiServiceGenerationResponse response = new OpenApiServiceGenerationResponse();
             try {
                 Path openApiContractPath = Path.of(request.openApiContractPath());
@@ -453,7 +457,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> addErrorHandler(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 ErrorHandlerGenerator errorHandlerGenerator =
@@ -469,7 +473,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<EnclosedFuncDefResponse> getEnclosedFunctionDef(EnclosedFuncDefRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             EnclosedFuncDefResponse response = new EnclosedFuncDefResponse();
             try {
                 Path path = Path.of(request.filePath());
@@ -493,7 +497,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FunctionDefinitionResponse> functionDefinition(FunctionDefinitionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FunctionDefinitionResponse response = new FunctionDefinitionResponse();
             try {
                 // Load the project
@@ -525,7 +529,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelAvailableNodesResponse> search(SearchRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -545,6 +549,58 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 SearchCommand command = SearchCommand.from(searchKind, project, position, request.queryMap(),
                         functionsDoc.orElse(null));
                 response.setCategories(command.execute());
+                response.setNextCursor(command.getNextCursor());
+            } catch (Throwable e) {
+                response.setError(e);
+            }
+            return response;
+        });
+    }
+
+    @JsonRequest
+    public CompletableFuture<SearchAllResponse> searchAll(SearchAllRequest request) {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
+            SearchAllResponse response = new SearchAllResponse();
+            try {
+                Path filePath = Path.of(request.filePath());
+                Project project = this.workspaceManager.loadProject(filePath);
+                LineRange position = request.position();
+                if (request.position() != null) {
+                    position = LineRange.from(
+                            Optional.ofNullable(filePath.getFileName()).map(Path::toString).orElse(""),
+                            request.position().startLine(),
+                            request.position().endLine());
+                }
+
+                List<SearchCommand.Kind> searchKinds = request.searchKinds() == null ?
+                        List.of(SearchCommand.Kind.values()) :
+                        request.searchKinds().stream().map(SearchCommand.Kind::valueOf).toList();
+                Map<SearchCommand.Kind, Map<String, String>> queryMaps = new EnumMap<>(SearchCommand.Kind.class);
+                for (SearchCommand.Kind searchKind : searchKinds) {
+                    Map<String, String> queryMap = request.queryMap() == null ? new HashMap<>() :
+                            new HashMap<>(request.queryMap());
+                    Integer limit = request.limits() == null ? null : request.limits().get(searchKind.name());
+                    if (limit != null) {
+                        queryMap.put("limit", String.valueOf(limit));
+                    }
+                    // A cursor belongs to the search of a single kind, so it is only taken from the cursors by kind
+                    queryMap.remove("cursor");
+                    String cursor = request.cursors() == null ? null : request.cursors().get(searchKind.name());
+                    if (cursor != null) {
+                        queryMap.put("cursor", cursor);
+                    }
+                    queryMaps.put(searchKind, queryMap);
+                }
+
+                Path projectPath = this.workspaceManager.projectRoot(filePath);
+                Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
+
+                SearchAllCommand command = new SearchAllCommand(queryMaps, project, position,
+                        functionsDoc.orElse(null));
+                response.setCategories(command.execute());
+                Map<String, String> nextCursors = new HashMap<>();
+                command.getNextCursors().forEach((kind, cursor) -> nextCursors.put(kind.name(), cursor));
+                response.setNextCursors(nextCursors);
             } catch (Throwable e) {
                 response.setError(e);
             }
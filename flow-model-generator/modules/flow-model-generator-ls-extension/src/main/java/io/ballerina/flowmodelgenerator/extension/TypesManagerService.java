@@ -47,6 +47,7 @@ import io.ballerina.flowmodelgenerator.extension.response.TypeListResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeUpdateResponse;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.diagramutil.connector.models.connector.Type;
@@ -88,7 +89,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeListResponse> getTypes(FilePathRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             TypeListResponse response = new TypeListResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -110,7 +111,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeResponse> getType(GetTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             TypeResponse response = new TypeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -137,7 +138,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<TypeResponse> getGraphqlType(GetTypeRequest request) {
         // TODO: Different implementation may be needed with future requirements
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             TypeResponse response = new TypeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -164,7 +165,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeUpdateResponse> createGraphqlClassType(TypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             TypeUpdateResponse response = new TypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -186,7 +187,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeUpdateResponse> updateType(TypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             TypeUpdateResponse response = new TypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -205,7 +206,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<MultipleTypeUpdateResponse> updateTypes(MultipleTypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             MultipleTypeUpdateResponse response = new MultipleTypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -226,7 +227,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<RecordConfigResponse> recordConfig(RecordConfigRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             RecordConfigResponse response = new RecordConfigResponse();
             try {
                 Codedata codedata = request.codedata();
@@ -276,7 +277,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<RecordValueGenerateResponse> generateValue(RecordValueGenerateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             RecordValueGenerateResponse response = new RecordValueGenerateResponse();
             try {
                 response.setRecordValue(RecordValueGenerator.generate(request.type().getAsJsonObject()));
@@ -289,7 +290,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<RecordConfigResponse> updateRecordConfig(UpdatedRecordConfigRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             RecordConfigResponse response = new RecordConfigResponse();
             try {
                 FindTypeRequest.TypePackageInfo info = FindTypeRequest.TypePackageInfo.from(request.codedata());
@@ -319,7 +320,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<RecordConfigResponse> findMatchingType(FindTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             RecordConfigResponse response = new RecordConfigResponse();
             try {
                 String expression = request.expr();
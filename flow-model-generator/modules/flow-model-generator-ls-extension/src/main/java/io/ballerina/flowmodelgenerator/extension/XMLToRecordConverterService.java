@@ -23,6 +23,7 @@ import io.ballerina.flowmodelgenerator.core.converters.XMLToRecordConverter;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.flowmodelgenerator.extension.request.XMLToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.XMLToRecordResponse;
+import io.ballerina.modelgenerator.commons.RequestScheduler;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -57,7 +58,7 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<XMLToRecordResponse> convert(XMLToRecordRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestScheduler.getInstance().supplyAsync(RequestScheduler.Kind.INTERACTIVE, () -> {
             XMLToRecordResponse response = new XMLToRecordResponse();
 
             String xmlValue = request.getXmlValue();
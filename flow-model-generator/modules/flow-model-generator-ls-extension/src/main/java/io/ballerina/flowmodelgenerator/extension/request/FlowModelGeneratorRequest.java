@@ -24,12 +24,19 @@ import io.ballerina.tools.text.LineRange;
 /**
  * Represents the request for the flow model getFlowDesignModel API.
  *
- * @param filePath  file path of the source file
- * @param startLine start line of the source range
- * @param endLine   end line of the source range
+ * @param filePath     file path of the source file
+ * @param startLine    start line of the source range
+ * @param endLine      end line of the source range
+ * @param modelVersion version of the flow model held by the client. Clients opt in to patch responses by sending an
+ *                     empty string when they do not hold a model, and the full model is sent when this is null
  * @since 1.4.0
  */
-public record FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine) {
+public record FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine,
+                                        String modelVersion) {
+
+    public FlowModelGeneratorRequest(String filePath, LinePosition startLine, LinePosition endLine) {
+        this(filePath, startLine, endLine, null);
+    }
 
     public LineRange lineRange() {
         return LineRange.from(filePath, startLine, endLine);
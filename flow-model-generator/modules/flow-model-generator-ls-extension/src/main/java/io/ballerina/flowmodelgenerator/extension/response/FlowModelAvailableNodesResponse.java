@@ -28,6 +28,7 @@ import com.google.gson.JsonArray;
 public class FlowModelAvailableNodesResponse extends AbstractFlowModelResponse {
 
     private JsonArray categories;
+    private String nextCursor;
 
     public void setCategories(JsonArray categories) {
         this.categories = categories;
@@ -36,4 +37,12 @@ public class FlowModelAvailableNodesResponse extends AbstractFlowModelResponse {
     public JsonArray categories() {
         return categories;
     }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String nextCursor() {
+        return nextCursor;
+    }
 }
@@ -28,6 +28,8 @@ import com.google.gson.JsonElement;
 public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
 
     private JsonElement flowModel;
+    private JsonElement flowModelPatch;
+    private String modelVersion;
 
     public void setFlowDesignModel(JsonElement flowDesignModel) {
         this.flowModel = flowDesignModel;
@@ -36,4 +38,20 @@ public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
     public JsonElement flowDesignModel() {
         return flowModel;
     }
+
+    public void setFlowModelPatch(JsonElement flowModelPatch) {
+        this.flowModelPatch = flowModelPatch;
+    }
+
+    public JsonElement flowModelPatch() {
+        return flowModelPatch;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public String modelVersion() {
+        return modelVersion;
+    }
 }
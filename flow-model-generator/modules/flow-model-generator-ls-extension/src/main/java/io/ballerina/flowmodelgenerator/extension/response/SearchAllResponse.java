@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.response;
+
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+
+/**
+ * Represents the response for the searchAll API, containing the categories of each kind of search and the cursors of
+ * the next pages of the kinds read page by page. The categories are grouped per kind rather than ranked across the
+ * kinds.
+ *
+ * @since 2.0.0
+ */
+public class SearchAllResponse extends AbstractFlowModelResponse {
+
+    private JsonObject categories;
+    private Map<String, String> nextCursors;
+
+    public void setCategories(JsonObject categories) {
+        this.categories = categories;
+    }
+
+    public JsonObject categories() {
+        return categories;
+    }
+
+    public void setNextCursors(Map<String, String> nextCursors) {
+        this.nextCursors = nextCursors;
+    }
+
+    public Map<String, String> nextCursors() {
+        return nextCursors;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.modelgenerator.commons.DatabaseManager;
+import io.ballerina.modelgenerator.commons.FunctionData;
+import io.ballerina.modelgenerator.commons.ParameterData;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for retrieving the parameters of the functions in the central index.
+ *
+ * @since 2.0.0
+ */
+public class DatabaseManagerTest {
+
+    // Spans more than one batch of the IN clause of the batched parameter query
+    private static final int FUNCTION_COUNT = 1200;
+    private static final int MISSING_FUNCTION_ID = -1;
+
+    // Exceeds the maximum size of the connection pool, so that callers have to wait for a connection
+    private static final int CONCURRENT_CALLERS = 32;
+    private static final int CONNECTOR_COUNT = 8;
+    // Well below the timeout for acquiring a connection from the pool
+    private static final long CONCURRENT_TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testBatchedParameters() {
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        List<FunctionData> functions = dbManager.getAllFunctions(FunctionData.Kind.FUNCTION,
+                Map.of("limit", String.valueOf(FUNCTION_COUNT), "offset", "0"));
+        Assert.assertTrue(functions.size() > 500, "Expected more functions than a batch, found " + functions.size());
+
+        // Request the parameters of all the functions at once, along with a duplicate and a missing function
+        List<Integer> functionIds = new ArrayList<>(functions.stream().map(FunctionData::functionId).toList());
+        functionIds.add(functionIds.getFirst());
+        functionIds.add(MISSING_FUNCTION_ID);
+        Map<Integer, LinkedHashMap<String, ParameterData>> batchedParameters =
+                dbManager.getFunctionParametersAsMap(functionIds);
+        Assert.assertEquals(batchedParameters.size(), functions.size() + 1);
+        Assert.assertEquals(batchedParameters.get(MISSING_FUNCTION_ID), Map.of());
+
+        // The parameters should be the same as the ones retrieved per function, including the functions without any
+        boolean hasFunctionWithoutParameters = false;
+        for (FunctionData function : functions) {
+            LinkedHashMap<String, ParameterData> parameters =
+                    dbManager.getFunctionParametersAsMap(function.functionId());
+            hasFunctionWithoutParameters |= parameters.isEmpty();
+            assertParameters(batchedParameters.get(function.functionId()), parameters, function);
+        }
+        Assert.assertTrue(hasFunctionWithoutParameters, "Expected a function without parameters");
+    }
+
+    @Test
+    public void testSetParameters() {
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        List<FunctionData> functions = dbManager.getAllFunctions(FunctionData.Kind.FUNCTION,
+                Map.of("limit", String.valueOf(FUNCTION_COUNT), "offset", "0"));
+        Assert.assertTrue(functions.size() > 500, "Expected more functions than a batch, found " + functions.size());
+
+        dbManager.setParameters(functions);
+        for (FunctionData function : functions) {
+            assertParameters(function.parameters(), dbManager.getFunctionParametersAsMap(function.functionId()),
+                    function);
+        }
+    }
+
+    @Test
+    public void testConcurrentConnectorActions() throws Exception {
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        List<FunctionData> connectors = dbManager.getAllFunctions(FunctionData.Kind.CONNECTOR,
+                Map.of("limit", String.valueOf(CONNECTOR_COUNT), "offset", "0"));
+        Assert.assertFalse(connectors.isEmpty(), "Expected connectors in the index");
+        Map<Integer, List<FunctionData>> expectedActions = new LinkedHashMap<>();
+        for (FunctionData connector : connectors) {
+            expectedActions.put(connector.functionId(), dbManager.getConnectorActions(connector.functionId()));
+        }
+
+        // Each caller holds a connection while it retrieves the parameters of the actions, which must not borrow a
+        // second connection from the pool
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<List<FunctionData>>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                int connectorId = connectors.get(i % connectors.size()).functionId();
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return dbManager.getConnectorActions(connectorId);
+                }));
+            }
+            startSignal.countDown();
+
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                List<FunctionData> actions = futures.get(i).get(CONCURRENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                List<FunctionData> expected = expectedActions.get(connectors.get(i % connectors.size()).functionId());
+                Assert.assertEquals(actions.stream().map(FunctionData::functionId).toList(),
+                        expected.stream().map(FunctionData::functionId).toList());
+                for (int j = 0; j < actions.size(); j++) {
+                    assertParameters(actions.get(j).parameters(),
+                            new LinkedHashMap<>(expected.get(j).parameters()), expected.get(j));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertParameters(Map<String, ParameterData> actualParameters,
+                                         LinkedHashMap<String, ParameterData> expectedParameters,
+                                         FunctionData function) {
+        String message = String.format("Unexpected parameters for the function '%s' (%d)", function.name(),
+                function.functionId());
+        Assert.assertNotNull(actualParameters, message);
+        Assert.assertEquals(List.copyOf(actualParameters.keySet()), List.copyOf(expectedParameters.keySet()),
+                message);
+        Assert.assertEquals(actualParameters, expectedParameters, message);
+    }
+}
@@ -20,11 +20,17 @@ package io.ballerina.flowmodelgenerator.extension;
 
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.CompletionCache;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorCompletionRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.modelgenerator.commons.CommonUtils;
 import org.eclipse.lsp4j.CompletionContext;
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionTriggerKind;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -33,6 +39,7 @@ import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Tests for the expression editor completion service.
@@ -91,6 +98,106 @@ public class ExpressionEditorCompletionTest extends AbstractLSTest {
         notifyDidClose(sourcePath);
     }
 
+    @Test
+    public void testNarrowedCompletions() throws IOException {
+        Path configJsonPath = configDir.resolve("proj11.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        notifyDidOpen(sourcePath);
+
+        // The completions of "rec." are narrowed locally while the field name is typed
+        getCompletions(sourcePath, testConfig.context(), testConfig.completionContext());
+        ExpressionEditorContext.Info narrowedContext = withExpression(testConfig.context(), "rec.va", 6);
+        List<CompletionItem> narrowedCompletions =
+                getCompletions(sourcePath, narrowedContext, testConfig.completionContext());
+
+        // The narrowed completions should be the same as the fresh completions filtered by the field name
+        CompletionCache.getInstance().clear();
+        List<CompletionItem> freshCompletions =
+                getCompletions(sourcePath, narrowedContext, testConfig.completionContext()).stream()
+                        .filter(item -> matches(item, "va"))
+                        .toList();
+        notifyDidClose(sourcePath);
+        Assert.assertFalse(narrowedCompletions.isEmpty(), "Expected the completions of the field name");
+        Assert.assertEquals(narrowedCompletions, freshCompletions);
+    }
+
+    @Test
+    public void testCompletionsAfterTriggerCharacter() throws IOException {
+        Path configJsonPath = configDir.resolve("proj11.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        notifyDidOpen(sourcePath);
+
+        // Typing the trigger character changes the scope, which should not reuse the completions of "rec"
+        getCompletions(sourcePath, withExpression(testConfig.context(), "rec", 3), testConfig.completionContext());
+        List<CompletionItem> completions = getCompletions(sourcePath, testConfig.context(),
+                new CompletionContext(CompletionTriggerKind.TriggerCharacter, "."));
+        notifyDidClose(sourcePath);
+        Assert.assertEquals(getLabels(completions), getLabels(testConfig.completions()));
+    }
+
+    @Test
+    public void testCompletionsAfterPackageEdit() throws IOException {
+        Path configJsonPath = configDir.resolve("proj1.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        String fnPath = getSourcePath("proj/fn.bal");
+        String fnText = getText(fnPath);
+        notifyDidOpen(sourcePath);
+        notifyDidOpen(fnPath);
+
+        getCompletions(sourcePath, withExpression(testConfig.context(), "s", 1), testConfig.completionContext());
+
+        // Adding a function in another file of the package should request the completions again
+        notifyDidChange(fnPath, fnText + "\nfunction sampleFn() {\n}\n", 2);
+        List<CompletionItem> completions = getCompletions(sourcePath, withExpression(testConfig.context(), "sa", 2),
+                testConfig.completionContext());
+        notifyDidChange(fnPath, fnText, 3);
+        notifyDidClose(fnPath);
+        notifyDidClose(sourcePath);
+        Assert.assertTrue(completions.stream().anyMatch(item -> item.getLabel().startsWith("sampleFn")),
+                "Expected the completions to include the function added in the other file");
+    }
+
+    private List<CompletionItem> getCompletions(String sourcePath, ExpressionEditorContext.Info context,
+                                                CompletionContext completionContext) {
+        ExpressionEditorCompletionRequest request =
+                new ExpressionEditorCompletionRequest(sourcePath, context, completionContext);
+        JsonObject response = getResponse(request, getServiceName() + "/" + getApiName());
+        return gson.fromJson(response.get("left").getAsJsonArray(), COMPLETION_RESPONSE_TYPE);
+    }
+
+    private static ExpressionEditorContext.Info withExpression(ExpressionEditorContext.Info context,
+                                                               String expression, int offset) {
+        return new ExpressionEditorContext.Info(expression, context.startLine(), offset, context.lineOffset(),
+                context.codedata(), context.property());
+    }
+
+    private static List<String> getLabels(List<CompletionItem> completions) {
+        return completions.stream().map(CompletionItem::getLabel).sorted().toList();
+    }
+
+    private static boolean matches(CompletionItem item, String identifier) {
+        String text = (item.getFilterText() != null ? item.getFilterText() : item.getLabel()).toLowerCase(Locale.ROOT);
+        int index = 0;
+        for (char character : identifier.toLowerCase(Locale.ROOT).toCharArray()) {
+            index = text.indexOf(character, index);
+            if (index < 0) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    private void notifyDidChange(String sourcePath, String text, int version) {
+        VersionedTextDocumentIdentifier textDocumentIdentifier =
+                new VersionedTextDocumentIdentifier(CommonUtils.getExprUri(sourcePath), version);
+        sendNotification("textDocument/didChange", new DidChangeTextDocumentParams(textDocumentIdentifier,
+                List.of(new TextDocumentContentChangeEvent(text))));
+    }
+
     @Override
     protected String getResourceDir() {
         return "completions";
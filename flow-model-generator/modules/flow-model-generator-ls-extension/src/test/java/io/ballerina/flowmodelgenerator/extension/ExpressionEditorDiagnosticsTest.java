@@ -18,12 +18,25 @@
 
 package io.ballerina.flowmodelgenerator.extension;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.DiagnosticsCache;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorDiagnosticsRequest;
+import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -32,6 +45,9 @@ import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tests for the expression editor diagnostics service.
@@ -114,6 +130,154 @@ public class ExpressionEditorDiagnosticsTest extends AbstractLSTest {
         Assert.assertTrue(diagnostics.isEmpty(), "Expected no diagnostics for complete expression");
     }
 
+    @Test
+    public void testReleaseSession() throws IOException {
+        Path configJsonPath = configDir.resolve("variable1.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        notifyDidOpen(sourcePath);
+
+        // The statement generated for the semantic diagnostics is retained until the session is released
+        ExpressionEditorDiagnosticsRequest request =
+                new ExpressionEditorDiagnosticsRequest(sourcePath, testConfig.context());
+        getResponse(request);
+        Assert.assertTrue(releaseSession(sourcePath), "Expected the retained statement to be reverted");
+        Assert.assertFalse(releaseSession(sourcePath), "Expected no statement to be retained after the release");
+
+        // The diagnostics should remain the same after the release
+        JsonObject response = getResponse(request);
+        List<Diagnostic> actualDiagnostics = gson.fromJson(response.get("diagnostics").getAsJsonArray(),
+                diagnosticsType);
+        releaseSession(sourcePath);
+        notifyDidClose(sourcePath);
+        Assert.assertTrue(assertArray("diagnostics", actualDiagnostics, testConfig.diagnostics()));
+    }
+
+    @Test
+    public void testImmediateSyntaxDiagnostics() throws IOException {
+        Path configJsonPath = configDir.resolve("variable1.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        ExpressionEditorContext.Info templateContext = testConfig.context();
+        String sourcePath = getSourcePath(testConfig.filePath());
+        String method = getServiceName() + "/" + getApiName();
+        notifyDidOpen(sourcePath);
+
+        // A valid expression waits for the debounce delay
+        CompletableFuture<?> pendingResult = serviceEndpoint.request(method,
+                new ExpressionEditorDiagnosticsRequest(sourcePath, withExpression(templateContext, "12")));
+        Assert.assertFalse(pendingResult.isDone(), "Expected the valid expression to wait for the delay");
+
+        // An expression with syntax errors responds immediately and supersedes the pending request of the property
+        CompletableFuture<?> syntaxResult = serviceEndpoint.request(method,
+                new ExpressionEditorDiagnosticsRequest(sourcePath, withExpression(templateContext, "fn(")));
+        Assert.assertTrue(syntaxResult.isDone(), "Expected the syntax errors to be reported without the delay");
+        Assert.assertTrue(pendingResult.isCompletedExceptionally(), "Expected the pending request to be debounced");
+
+        JsonObject response = JsonParser.parseString(TestUtil.getResponseString(syntaxResult)).getAsJsonObject()
+                .getAsJsonObject("result");
+        List<Diagnostic> diagnostics = gson.fromJson(response.get("diagnostics").getAsJsonArray(), diagnosticsType);
+        releaseSession(sourcePath);
+        notifyDidClose(sourcePath);
+        Assert.assertFalse(diagnostics.isEmpty(), "Expected syntax errors for the incomplete expression");
+    }
+
+    @Test
+    public void testCachedDiagnostics() throws IOException {
+        Path configJsonPath = configDir.resolve("action_call1.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        notifyDidOpen(sourcePath);
+
+        // The same expression analyzed again in the same state of the package should reuse the diagnostics
+        ExpressionEditorDiagnosticsRequest request =
+                new ExpressionEditorDiagnosticsRequest(sourcePath, testConfig.context());
+        JsonArray firstDiagnostics = getResponse(request).getAsJsonArray("diagnostics");
+        JsonArray secondDiagnostics = getResponse(request).getAsJsonArray("diagnostics");
+        releaseSession(sourcePath);
+        notifyDidClose(sourcePath);
+        Assert.assertEquals(secondDiagnostics, firstDiagnostics);
+        Assert.assertTrue(assertArray("diagnostics",
+                gson.fromJson(secondDiagnostics, diagnosticsType), testConfig.diagnostics()));
+    }
+
+    @Test
+    public void testDiagnosticsCache() {
+        DiagnosticsCache diagnosticsCache = DiagnosticsCache.getInstance();
+        String fileUri = "expr:///cache/main.bal";
+        List<TextDocument> textDocuments = List.of(TextDocuments.from("public function main() {\n}"),
+                TextDocuments.from("int value = 1;"));
+        Diagnostic diagnostic = new Diagnostic(new Range(new Position(0, 0), new Position(0, 5)), "error");
+        diagnosticsCache.put(fileUri, textDocuments, "key", Set.of(diagnostic));
+
+        // The diagnostics are cached for the same instances of the documents
+        Assert.assertEquals(diagnosticsCache.get(fileUri, List.copyOf(textDocuments), "key"),
+                Optional.of(Set.of(diagnostic)));
+        Assert.assertTrue(diagnosticsCache.get(fileUri, textDocuments, "other").isEmpty());
+
+        // A document with the same content is still a different state of the package
+        List<TextDocument> editedTextDocuments = List.of(textDocuments.get(0), TextDocuments.from("int value = 1;"));
+        Assert.assertTrue(diagnosticsCache.get(fileUri, editedTextDocuments, "key").isEmpty());
+
+        // Caching the diagnostics of the new state discards the previous state
+        diagnosticsCache.put(fileUri, editedTextDocuments, "other", Set.of());
+        Assert.assertTrue(diagnosticsCache.get(fileUri, textDocuments, "key").isEmpty());
+        Assert.assertEquals(diagnosticsCache.get(fileUri, editedTextDocuments, "other"), Optional.of(Set.of()));
+    }
+
+    @Test
+    public void testDiagnosticsAfterPackageEdit() throws IOException {
+        Path configJsonPath = configDir.resolve("action_call1.json");
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.filePath());
+        String connectionsPath = getSourcePath("proj/connections.bal");
+        String connectionsText = getText(connectionsPath);
+        notifyDidOpen(sourcePath);
+        notifyDidOpen(connectionsPath);
+
+        // The expression refers to a module-level variable declared in another file of the package
+        ExpressionEditorDiagnosticsRequest request = new ExpressionEditorDiagnosticsRequest(sourcePath,
+                withExpression(testConfig.context(), "moduleHttpCl"));
+        List<Diagnostic> diagnostics = gson.fromJson(getResponse(request).getAsJsonArray("diagnostics"),
+                diagnosticsType);
+        Assert.assertFalse(hasUndefinedSymbol(diagnostics, "moduleHttpCl"));
+
+        // Renaming the variable in the other file should analyze the expression again
+        notifyDidChange(connectionsPath, connectionsText.replace("moduleHttpCl", "renamedHttpCl"), 2);
+        List<Diagnostic> editedDiagnostics = gson.fromJson(getResponse(request).getAsJsonArray("diagnostics"),
+                diagnosticsType);
+        notifyDidChange(connectionsPath, connectionsText, 3);
+        releaseSession(sourcePath);
+        notifyDidClose(connectionsPath);
+        notifyDidClose(sourcePath);
+        Assert.assertTrue(hasUndefinedSymbol(editedDiagnostics, "moduleHttpCl"),
+                "Expected the diagnostics to reflect the edit in the other file");
+    }
+
+    private static ExpressionEditorContext.Info withExpression(ExpressionEditorContext.Info context,
+                                                               String expression) {
+        return new ExpressionEditorContext.Info(expression, context.startLine(), context.offset(),
+                context.lineOffset(), context.codedata(), context.property());
+    }
+
+    private static boolean hasUndefinedSymbol(List<Diagnostic> diagnostics, String symbol) {
+        return diagnostics.stream()
+                .anyMatch(diagnostic -> diagnostic.getMessage().equals("undefined symbol '" + symbol + "'"));
+    }
+
+    private void notifyDidChange(String sourcePath, String text, int version) {
+        VersionedTextDocumentIdentifier textDocumentIdentifier =
+                new VersionedTextDocumentIdentifier(CommonUtils.getExprUri(sourcePath), version);
+        sendNotification("textDocument/didChange", new DidChangeTextDocumentParams(textDocumentIdentifier,
+                List.of(new TextDocumentContentChangeEvent(text))));
+    }
+
+    private boolean releaseSession(String sourcePath) {
+        CompletableFuture<?> result =
+                serviceEndpoint.request(getServiceName() + "/releaseSession", new FilePathRequest(sourcePath));
+        return JsonParser.parseString(TestUtil.getResponseString(result)).getAsJsonObject()
+                .get("result").getAsBoolean();
+    }
+
     @Override
     protected String getResourceDir() {
         return "diagnostics";
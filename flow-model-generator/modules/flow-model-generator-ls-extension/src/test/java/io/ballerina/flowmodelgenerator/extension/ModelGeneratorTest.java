@@ -18,17 +18,31 @@
 
 package io.ballerina.flowmodelgenerator.extension;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Test cases for the flow model generator service.
@@ -65,6 +79,113 @@ public class ModelGeneratorTest extends AbstractLSTest {
         }
     }
 
+    @Test(dataProvider = "data-provider")
+    public void testPatch(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+        String sourcePath = getSourcePath(testConfig.source());
+
+        // Obtain the full flow model along with its version
+        JsonObject response = getResponse(
+                new FlowModelGeneratorRequest(sourcePath, testConfig.start(), testConfig.end(), ""));
+        JsonObject flowModel = response.getAsJsonObject("flowModel");
+        JsonPrimitive modelVersion = response.getAsJsonPrimitive("modelVersion");
+        if (modelVersion == null) {
+            // The flow model cannot be patched, hence the full model is always sent
+            Assert.assertNotNull(flowModel);
+            return;
+        }
+
+        // Request the unchanged flow model with the obtained version
+        JsonObject patchResponse = getResponseAndCloseFile(new FlowModelGeneratorRequest(sourcePath,
+                testConfig.start(), testConfig.end(), modelVersion.getAsString()), testConfig.source());
+        JsonObject patch = patchResponse.getAsJsonObject("flowModelPatch");
+        Assert.assertNotNull(patch, String.format("Patch not found: '%s'", configJsonPath));
+        Assert.assertNull(patchResponse.get("flowModel"));
+        Assert.assertTrue(patch.getAsJsonArray("added").isEmpty());
+        Assert.assertTrue(patch.getAsJsonArray("changed").isEmpty());
+        Assert.assertTrue(patch.getAsJsonArray("removed").isEmpty());
+        Assert.assertEquals(applyPatch(flowModel, patch), flowModel);
+    }
+
+    /**
+     * Applies a flow model patch on the flow model held by the client, as expected from the clients.
+     *
+     * @param flowModel the flow model held by the client
+     * @param patch     the patch to apply
+     * @return the patched flow model
+     */
+    private static JsonObject applyPatch(JsonObject flowModel, JsonObject patch) {
+        Map<String, JsonElement> nodes = new LinkedHashMap<>();
+        JsonArray nodeArray = flowModel.getAsJsonArray("nodes");
+        if (nodeArray != null) {
+            nodeArray.forEach(node -> nodes.put(node.getAsJsonObject().get("id").getAsString(), node));
+        }
+        patch.getAsJsonArray("removed").forEach(id -> nodes.remove(id.getAsString()));
+        patch.getAsJsonArray("added").forEach(node -> nodes.put(node.getAsJsonObject().get("id").getAsString(), node));
+        patch.getAsJsonArray("changed")
+                .forEach(node -> nodes.put(node.getAsJsonObject().get("id").getAsString(), node));
+
+        List<JsonElement> orderedNodes = new ArrayList<>();
+        patch.getAsJsonArray("order").forEach(id -> orderedNodes.add(nodes.get(id.getAsString())));
+        JsonArray newNodes = new JsonArray();
+        orderedNodes.forEach(newNodes::add);
+
+        JsonObject newFlowModel = flowModel.deepCopy();
+        newFlowModel.add("fileName", patch.get("fileName"));
+        newFlowModel.add("nodes", newNodes);
+        if (patch.has("connections")) {
+            newFlowModel.add("connections", patch.get("connections"));
+        }
+        return newFlowModel;
+    }
+
+    @Test(dataProvider = "incremental-edits")
+    public void testIncrementalFlowModel(String description, String target, String replacement) throws IOException {
+        Path tempDir = Files.createTempDirectory("incremental");
+        Path filePath = tempDir.resolve("incremental.bal");
+        Files.copy(sourceDir.resolve("incremental.bal"), filePath);
+        Project project = SingleFileProject.load(filePath);
+        Document document = project.currentPackage().getDefaultModule()
+                .document(project.currentPackage().getDefaultModule().documentIds().iterator().next());
+
+        // Generate the flow model incrementally, to cache the flow nodes of the statements
+        JsonElement originalModel = getFlowModel(document, filePath, true);
+
+        // Regenerate the flow model after the edit, which should be the same as a full regeneration
+        String source = document.textDocument().toString();
+        Assert.assertTrue(source.contains(target), String.format("Edit target not found: '%s'", description));
+        Document modifiedDocument = document.modify().withContent(source.replace(target, replacement)).apply();
+        JsonElement incrementalModel = getFlowModel(modifiedDocument, filePath, true);
+        JsonElement fullModel = getFlowModel(modifiedDocument, filePath, false);
+        Assert.assertNotEquals(incrementalModel, originalModel,
+                String.format("Edit not reflected in the flow model: '%s'", description));
+        if (!incrementalModel.equals(fullModel)) {
+            compareJsonElements(incrementalModel, fullModel);
+            Assert.fail(String.format("Incremental flow model differs from the full regeneration: '%s'",
+                    description));
+        }
+    }
+
+    @DataProvider(name = "incremental-edits")
+    private Object[][] getIncrementalEdits() {
+        return new Object[][]{
+                {"Edit a statement", "\"processing\"", "\"processed\""},
+                {"Edit a declaration used by a later statement", "var total = count * 2;",
+                        "var total = <float>count * 2.5;"},
+                {"Add an error diagnostic", "int length = message.length();",
+                        "int length = message.length() + true;"}
+        };
+    }
+
+    private static JsonElement getFlowModel(Document document, Path filePath, boolean incremental) {
+        SemanticModel semanticModel = document.module().getCompilation().getSemanticModel();
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        LineRange lineRange = modulePartNode.members().get(0).lineRange();
+        ModelGenerator modelGenerator = new ModelGenerator(document.module().project(), semanticModel, filePath);
+        return modelGenerator.getFlowModel(document, lineRange, null, null, incremental);
+    }
+
     @Override
     protected String[] skipList() {
         // TODO: Enable this once the default value issue is resolved
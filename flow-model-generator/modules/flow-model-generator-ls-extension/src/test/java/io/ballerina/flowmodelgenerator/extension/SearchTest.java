@@ -19,9 +19,12 @@
 package io.ballerina.flowmodelgenerator.extension;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
+import io.ballerina.flowmodelgenerator.extension.request.SearchAllRequest;
 import io.ballerina.flowmodelgenerator.extension.request.SearchRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -29,7 +32,10 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Tests for the search API.
@@ -58,6 +64,90 @@ public class SearchTest extends AbstractLSTest {
         }
     }
 
+    @Test
+    public void testSearchAll() {
+        String sourcePath = getSourcePath("proj/main.bal");
+        LineRange position = LineRange.from("main.bal", LinePosition.from(2, 0), LinePosition.from(4, 1));
+        Map<String, String> queryMap = Map.of("q", "sum");
+        List<String> searchKinds = List.of(SearchCommand.Kind.FUNCTION.name(), SearchCommand.Kind.CONNECTOR.name(),
+                SearchCommand.Kind.TYPE.name());
+        Map<String, Integer> limits = Map.of(SearchCommand.Kind.TYPE.name(), 5);
+
+        SearchAllRequest request = new SearchAllRequest(sourcePath, position, queryMap, searchKinds, limits, null);
+        JsonObject categories = getResponse(request, getServiceName() + "/searchAll").getAsJsonObject("categories");
+        Assert.assertEquals(categories.keySet(), Set.copyOf(searchKinds));
+
+        // The categories of each kind should be the same as the ones of the individual search
+        for (String searchKind : searchKinds) {
+            Map<String, String> kindQueryMap = new HashMap<>(queryMap);
+            if (limits.containsKey(searchKind)) {
+                kindQueryMap.put("limit", String.valueOf(limits.get(searchKind)));
+            }
+            SearchRequest searchRequest = new SearchRequest(searchKind, sourcePath, position, kindQueryMap);
+            JsonArray expectedCategories = getResponse(searchRequest, getServiceName() + "/" + getApiName())
+                    .getAsJsonArray("categories");
+            Assert.assertEquals(categories.getAsJsonArray(searchKind), expectedCategories,
+                    "Unexpected categories for " + searchKind);
+        }
+    }
+
+    @Test
+    public void testSearchAllWithCursors() {
+        String sourcePath = getSourcePath("proj/main.bal");
+        LineRange position = LineRange.from("main.bal", LinePosition.from(2, 0), LinePosition.from(4, 1));
+        String typeKind = SearchCommand.Kind.TYPE.name();
+        String functionKind = SearchCommand.Kind.FUNCTION.name();
+        List<String> searchKinds = List.of(functionKind, typeKind);
+        Map<String, Integer> limits = Map.of(typeKind, 5);
+
+        // Only the kind given a cursor should be read page by page, even if the shared query parameters have one
+        Map<String, String> queryMap = Map.of("q", "http", "cursor", "");
+        SearchAllRequest firstRequest = new SearchAllRequest(sourcePath, position, queryMap, searchKinds, limits,
+                Map.of(typeKind, ""));
+        JsonObject firstResponse = getResponse(firstRequest, getServiceName() + "/searchAll");
+        JsonObject nextCursors = firstResponse.getAsJsonObject("nextCursors");
+        Assert.assertEquals(nextCursors.keySet(), Set.of(typeKind));
+
+        // The cursor of a kind should read its next page without affecting the other kinds
+        SearchAllRequest secondRequest = new SearchAllRequest(sourcePath, position, queryMap, searchKinds, limits,
+                Map.of(typeKind, nextCursors.get(typeKind).getAsString()));
+        JsonObject categories = getResponse(secondRequest, getServiceName() + "/searchAll")
+                .getAsJsonObject("categories");
+
+        SearchRequest typeRequest = new SearchRequest(typeKind, sourcePath, position,
+                Map.of("q", "http", "limit", "5", "offset", "5"));
+        Assert.assertEquals(categories.getAsJsonArray(typeKind),
+                getResponse(typeRequest, getServiceName() + "/" + getApiName()).getAsJsonArray("categories"));
+        SearchRequest functionRequest = new SearchRequest(functionKind, sourcePath, position, Map.of("q", "http"));
+        Assert.assertEquals(categories.getAsJsonArray(functionKind),
+                getResponse(functionRequest, getServiceName() + "/" + getApiName()).getAsJsonArray("categories"));
+    }
+
+    @Test
+    public void testSearchWithCursor() {
+        String sourcePath = getSourcePath("proj/main.bal");
+        LineRange position = LineRange.from("main.bal", LinePosition.from(2, 0), LinePosition.from(4, 1));
+        int limit = 5;
+
+        // Each page read with the cursor should be the same as the page read with the offset
+        String cursor = "";
+        for (int page = 0; page < 3; page++) {
+            SearchRequest request = new SearchRequest(SearchCommand.Kind.TYPE.name(), sourcePath, position,
+                    Map.of("q", "http", "limit", String.valueOf(limit), "cursor", cursor));
+            JsonObject response = getResponse(request, getServiceName() + "/" + getApiName());
+
+            SearchRequest offsetRequest = new SearchRequest(SearchCommand.Kind.TYPE.name(), sourcePath, position,
+                    Map.of("q", "http", "limit", String.valueOf(limit), "offset", String.valueOf(page * limit)));
+            JsonArray expectedCategories = getResponse(offsetRequest, getServiceName() + "/" + getApiName())
+                    .getAsJsonArray("categories");
+            Assert.assertEquals(response.getAsJsonArray("categories"), expectedCategories,
+                    "Unexpected categories for page " + page);
+
+            Assert.assertTrue(response.has("nextCursor"), "Expected a cursor for the page after page " + page);
+            cursor = response.get("nextCursor").getAsString();
+        }
+    }
+
     @Override
     protected String[] skipList() {
         // TODO: Re-enable once the ballerinax/np module is available
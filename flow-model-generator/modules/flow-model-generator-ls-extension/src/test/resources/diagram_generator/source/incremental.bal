@@ -0,0 +1,8 @@
+public function process(int count) {
+    var total = count * 2;
+    string message = "processing";
+    int length = message.length();
+    var result = total;
+    _ = result;
+    _ = length;
+}
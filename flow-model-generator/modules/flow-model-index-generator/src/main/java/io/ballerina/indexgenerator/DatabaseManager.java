@@ -174,4 +174,15 @@ class DatabaseManager {
             LOGGER.severe("Error updating return types: " + e.getMessage());
         }
     }
+
+    public static void optimizeDatabase() {
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("ANALYZE");
+            stmt.execute("VACUUM");
+            LOGGER.info("Database optimized successfully");
+        } catch (SQLException e) {
+            LOGGER.severe("Error optimizing the database: " + e.getMessage());
+        }
+    }
 }
@@ -149,6 +149,9 @@ class IndexGenerator {
         DatabaseManager.updateTypeParameter("lang.table", "table:Type", "(any|error)");
         DatabaseManager.updateTypeParameter("lang.value", "value:AnydataType", "anydata");
         DatabaseManager.updateTypeParameter("lang.value", "value:Type", "(any|error)");
+
+        // Refresh the planner statistics and compact the database once all the entries are written
+        DatabaseManager.optimizeDatabase();
     }
 
     private static void resolvePackage(BuildProject buildProject, String org,
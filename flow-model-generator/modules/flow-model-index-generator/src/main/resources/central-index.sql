@@ -63,3 +63,14 @@ CREATE TABLE ParameterMemberType (
     package TEXT, -- format of the package is org:name:version
     FOREIGN KEY (parameter_id) REFERENCES Parameter(parameter_id) ON DELETE CASCADE
 );
+
+-- Create indexes for the lookups performed by the language server
+CREATE INDEX idx_package_org_name ON Package(org, name, version);
+CREATE INDEX idx_function_package_name_kind ON Function(package_id, name, kind, resource_path);
+CREATE INDEX idx_function_connector_connector ON FunctionConnector(connector_id, function_id);
+CREATE INDEX idx_parameter_function ON Parameter(function_id);
+CREATE INDEX idx_parameter_member_type_parameter ON ParameterMemberType(parameter_id);
+
+-- Stamp the schema version, which should be updated along with DatabaseManager.SCHEMA_VERSION in the
+-- model-generator-commons module whenever the schema changes
+PRAGMA user_version = 1;
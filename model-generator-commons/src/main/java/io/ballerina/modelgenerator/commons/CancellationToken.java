@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Signals that the request being processed has been canceled, either by the client or by a newer request superseding
+ * it.
+ *
+ * <p>
+ * The {@link RequestScheduler} binds a token to the thread running a request. Long-running generators obtain it with
+ * {@link #current()} when they are created, which allows them to pass it on to other threads, and check it between
+ * units of work. Outside a scheduled request, {@link #current()} returns a token that is never canceled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class CancellationToken {
+
+    private static final CancellationToken NONE = new CancellationToken();
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean canceled;
+
+    CancellationToken() {
+    }
+
+    /**
+     * Returns the token of the request processed by the current thread.
+     *
+     * @return the token of the current request, or a token that is never canceled
+     */
+    public static CancellationToken current() {
+        CancellationToken token = CURRENT.get();
+        return token == null ? NONE : token;
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    /**
+     * Throws if the request has been canceled, so that no more work is spent on a result that is not used.
+     *
+     * @throws CancellationException if the request has been canceled
+     */
+    public void checkCanceled() {
+        if (canceled) {
+            throw new CancellationException("Request has been canceled");
+        }
+    }
+
+    void cancel() {
+        if (this != NONE) {
+            canceled = true;
+        }
+    }
+
+    <T> T run(Supplier<T> supplier) {
+        CURRENT.set(this);
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
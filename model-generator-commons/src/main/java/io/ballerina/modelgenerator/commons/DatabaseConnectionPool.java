@@ -0,0 +1,308 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * A pool of long-lived, read-only SQLite connections shared by the index database managers.
+ *
+ * <p>
+ * Connections are opened lazily up to a fixed upper bound, configured with shared cache, memory-mapped I/O and
+ * {@code query_only}, and returned to the pool when the borrowed {@link PooledConnection} is closed. Each connection
+ * keeps its own cache of prepared statements keyed by the SQL string, so repeated queries skip re-parsing.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class DatabaseConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseConnectionPool.class.getName());
+
+    private static final int DEFAULT_POOL_SIZE =
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int STATEMENT_CACHE_SIZE = 64;
+    private static final long MMAP_SIZE = 256L * 1024 * 1024;
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 30_000;
+    private static final long ACQUIRE_POLL_INTERVAL_MILLIS = 100;
+
+    // SQLITE_OPEN_READONLY as defined in sqlite3.h
+    private static final String OPEN_MODE_READ_ONLY = "1";
+
+    private final String dbPath;
+    private final int maxSize;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final AtomicInteger openConnections;
+
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong waits;
+    private final AtomicLong waitTimeNanos;
+    private final AtomicLong statementHits;
+    private final AtomicLong statementMisses;
+
+    private volatile boolean closed;
+
+    public DatabaseConnectionPool(String dbPath) {
+        this(dbPath, DEFAULT_POOL_SIZE);
+    }
+
+    public DatabaseConnectionPool(String dbPath, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Connection pool size must be positive: " + maxSize);
+        }
+        this.dbPath = dbPath;
+        this.maxSize = maxSize;
+        this.idleConnections = new LinkedBlockingQueue<>();
+        this.openConnections = new AtomicInteger();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.waits = new AtomicLong();
+        this.waitTimeNanos = new AtomicLong();
+        this.statementHits = new AtomicLong();
+        this.statementMisses = new AtomicLong();
+    }
+
+    /**
+     * Borrows a connection from the pool. An idle connection is reused when available, a new one is opened when the
+     * pool has not reached its upper bound, and otherwise the caller waits until a connection is returned.
+     *
+     * @return a pooled connection that must be closed to return it to the pool
+     * @throws SQLException if a connection cannot be opened or the wait times out
+     */
+    public PooledConnection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed: " + dbPath);
+        }
+
+        PooledConnection connection = idleConnections.poll();
+        if (connection != null) {
+            hits.incrementAndGet();
+            return connection.lease();
+        }
+
+        connection = tryOpenConnection();
+        if (connection != null) {
+            return connection.lease();
+        }
+
+        // All the connections are in use, hence wait until one is released or a slot becomes available
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(ACQUIRE_TIMEOUT_MILLIS);
+        waits.incrementAndGet();
+        try {
+            while (System.nanoTime() < deadline) {
+                connection = idleConnections.poll(ACQUIRE_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (connection != null) {
+                    hits.incrementAndGet();
+                    return connection.lease();
+                }
+                connection = tryOpenConnection();
+                if (connection != null) {
+                    return connection.lease();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waitTimeNanos.addAndGet(System.nanoTime() - start);
+        }
+        throw new SQLTimeoutException("Timed out waiting for a database connection: " + dbPath);
+    }
+
+    /**
+     * Closes all the idle connections and prevents further connections from being borrowed. Connections that are
+     * currently borrowed are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idleConnections.poll()) != null) {
+            connection.closePhysical();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool counters.
+     *
+     * @return the pool statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.get(), misses.get(), waits.get(), waitTimeNanos.get(), statementHits.get(),
+                statementMisses.get(), openConnections.get(), idleConnections.size());
+    }
+
+    private PooledConnection tryOpenConnection() throws SQLException {
+        int current;
+        do {
+            current = openConnections.get();
+            if (current >= maxSize) {
+                return null;
+            }
+        } while (!openConnections.compareAndSet(current, current + 1));
+
+        misses.incrementAndGet();
+        try {
+            return new PooledConnection(openConnection());
+        } catch (SQLException e) {
+            openConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", OPEN_MODE_READ_ONLY);
+        properties.setProperty("shared_cache", "true");
+        Connection connection = DriverManager.getConnection(dbPath, properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA mmap_size = " + MMAP_SIZE);
+            statement.execute("PRAGMA query_only = true");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void release(PooledConnection connection) {
+        boolean reusable;
+        try {
+            reusable = !closed && !connection.connection.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+        if (reusable) {
+            idleConnections.offer(connection);
+        } else {
+            connection.closePhysical();
+        }
+    }
+
+    /**
+     * A connection borrowed from the pool. Closing it returns the underlying connection to the pool instead of
+     * closing it. Statements obtained through {@link #prepareStatement(String)} are owned by the connection and must
+     * not be closed by the caller.
+     */
+    public final class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statementCache;
+        private boolean leased;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    closeStatement(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Returns a cached prepared statement for the given SQL, preparing it on the first use.
+         *
+         * @param sql the SQL statement
+         * @return the prepared statement with its parameters cleared
+         * @throws SQLException if the statement cannot be prepared
+         */
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement statement = statementCache.get(sql);
+            if (statement != null && !statement.isClosed()) {
+                statementHits.incrementAndGet();
+                statement.clearParameters();
+                return statement;
+            }
+            statementMisses.incrementAndGet();
+            statement = connection.prepareStatement(sql);
+            statementCache.put(sql, statement);
+            return statement;
+        }
+
+        @Override
+        public void close() {
+            if (!leased) {
+                return;
+            }
+            leased = false;
+            release(this);
+        }
+
+        private PooledConnection lease() {
+            leased = true;
+            return this;
+        }
+
+        private void closePhysical() {
+            statementCache.values().forEach(this::closeStatement);
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the database connection: " + e.getMessage());
+            } finally {
+                openConnections.decrementAndGet();
+            }
+        }
+
+        private void closeStatement(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the prepared statement: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Represents a snapshot of the pool counters.
+     *
+     * @param hits            number of borrows served by an idle connection
+     * @param misses          number of borrows that opened a new connection
+     * @param waits           number of borrows that had to wait for a connection
+     * @param waitTimeNanos   total time spent waiting for a connection in nanoseconds
+     * @param statementHits   number of prepared statements served from the per-connection cache
+     * @param statementMisses number of prepared statements that had to be prepared
+     * @param openConnections number of connections currently open
+     * @param idleConnections number of connections currently idle in the pool
+     */
+    public record Statistics(long hits, long misses, long waits, long waitTimeNanos, long statementHits,
+                             long statementMisses, int openConnections, int idleConnections) {
+    }
+}
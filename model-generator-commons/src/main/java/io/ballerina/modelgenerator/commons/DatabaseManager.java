@@ -18,17 +18,16 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,9 +40,27 @@ import java.util.logging.Logger;
  */
 public class DatabaseManager {
 
+    // Schema version stamped by the index generator through the user_version pragma of the central index
+    public static final int SCHEMA_VERSION = 1;
+
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+
+    // Keeps the number of bound variables in an IN clause well below the SQLite limit
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final String PARAMETER_COLUMNS = "p.parameter_id, " +
+            "p.name, " +
+            "p.type, " +
+            "p.kind, " +
+            "p.optional, " +
+            "p.default_value, " +
+            "p.description, " +
+            "p.import_statements, " +
+            "pmt.type AS member_type, " +
+            "pmt.kind AS member_kind, " +
+            "pmt.package AS member_package ";
+
+    private final DatabaseConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -61,25 +78,34 @@ public class DatabaseManager {
             throw new RuntimeException("Failed to load SQLite JDBC driver", e);
         }
 
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
+        Path indexFile = IndexFileExtractor.extract(getClass().getClassLoader(), INDEX_FILE_NAME);
+        connectionPool = new DatabaseConnectionPool("jdbc:sqlite:" + indexFile);
+        verifySchemaVersion();
+    }
 
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
-        }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
+    private void verifySchemaVersion() {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement("PRAGMA user_version;");
+            try (ResultSet rs = stmt.executeQuery()) {
+                int schemaVersion = rs.next() ? rs.getInt(1) : 0;
+                if (schemaVersion != SCHEMA_VERSION) {
+                    LOGGER.warning(String.format("Expected the schema version %d of %s, but found %d. " +
+                            "Regenerate the index to use the latest schema.", SCHEMA_VERSION, INDEX_FILE_NAME,
+                            schemaVersion));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error reading the schema version: " + e.getMessage());
         }
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+    /**
+     * Returns the hit, miss and wait counters of the underlying connection pool.
+     *
+     * @return the connection pool statistics
+     */
+    public DatabaseConnectionPool.Statistics getConnectionPoolStatistics() {
+        return connectionPool.getStatistics();
     }
 
     @Deprecated
@@ -103,30 +129,31 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
             stmt.setString(3, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -152,29 +179,30 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -207,32 +235,33 @@ public class DatabaseManager {
                 "OFFSET ?;";
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
             stmt.setString(3, wildcardKeyword);
             stmt.setString(4, queryMap.get("limit"));
             stmt.setString(5, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -264,8 +293,8 @@ public class DatabaseManager {
             sql.append("AND f.resource_path = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, org);
             stmt.setString(2, module);
             stmt.setString(3, kind.name());
@@ -273,23 +302,24 @@ public class DatabaseManager {
             if (resourcePath != null) {
                 stmt.setString(5, resourcePath);
             }
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -314,26 +344,27 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -353,28 +384,29 @@ public class DatabaseManager {
                 "p.import_statements " +
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            List<ParameterData> parameterResults = new ArrayList<>();
-            while (rs.next()) {
-                ParameterData
-                        parameterData = new ParameterData(
-                        rs.getInt("parameter_id"),
-                        rs.getString("name"),
-                        rs.getString("type"),
-                        ParameterData.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        "",
-                        rs.getBoolean("optional"),
-                        rs.getString("import_statements"),
-                        new ArrayList<>()
-                );
-                parameterResults.add(parameterData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ParameterData> parameterResults = new ArrayList<>();
+                while (rs.next()) {
+                    ParameterData
+                            parameterData = new ParameterData(
+                            rs.getInt("parameter_id"),
+                            rs.getString("name"),
+                            rs.getString("type"),
+                            ParameterData.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("default_value"),
+                            rs.getString("description"),
+                            "",
+                            rs.getBoolean("optional"),
+                            rs.getString("import_statements"),
+                            new ArrayList<>()
+                    );
+                    parameterResults.add(parameterData);
+                }
+                return parameterResults;
             }
-            return parameterResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -383,80 +415,125 @@ public class DatabaseManager {
 
     public LinkedHashMap<String, ParameterData> getFunctionParametersAsMap(int functionId) {
         String sql = "SELECT " +
-                "p.parameter_id, " +
-                "p.name, " +
-                "p.type, " +
-                "p.kind, " +
-                "p.optional, " +
-                "p.default_value, " +
-                "p.description, " +
-                "p.import_statements, " +
-                "pmt.type AS member_type, " +
-                "pmt.kind AS member_kind, " +
-                "pmt.package AS member_package " +
+                PARAMETER_COLUMNS +
                 "FROM Parameter p " +
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-
-            // Use a builder to accumulate parameter data and member types
-            LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
-
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                int parameterId = rs.getInt("parameter_id");
-                String type = rs.getString("type");
-                ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
-                String defaultValue = rs.getString("default_value");
-                String description = rs.getString("description");
-                boolean optional = rs.getBoolean("optional");
-                String importStatements = rs.getString("import_statements");
-
-                // Member type data
-                String memberType = rs.getString("member_type");
-                String memberKind = rs.getString("member_kind");
-                String memberPackage = rs.getString("member_package");
-
-                // Get or create the builder for this parameter
-                ParameterDataBuilder builder = builders.get(paramName);
-                if (builder == null) {
-                    builder = new ParameterDataBuilder();
-                    builder.parameterId = parameterId;
-                    builder.name = paramName;
-                    builder.type = type;
-                    builder.kind = kind;
-                    builder.defaultValue = defaultValue;
-                    builder.description = description;
-                    builder.optional = optional;
-                    builder.importStatements = importStatements;
-                    builders.put(paramName, builder);
-                }
-
-                // Add member type if present
-                if (memberType != null) {
-                    ParameterMemberTypeData memberData = new ParameterMemberTypeData(
-                            memberType, memberKind, memberPackage);
-                    builder.typeMembers.add(memberData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                // Use a builder to accumulate parameter data and member types
+                LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+                while (rs.next()) {
+                    addParameterRow(rs, builders);
                 }
+                return buildParameters(builders);
             }
+        } catch (SQLException e) {
+            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
 
-            // Convert builders to ParameterData
-            LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
-            for (ParameterDataBuilder builder : builders.values()) {
-                parameterResults.put(builder.name, builder.build());
-            }
+    /**
+     * Retrieves the parameters of multiple functions using a single query per batch of function IDs, instead of a
+     * query per function.
+     *
+     * @param functionIds the IDs of the functions
+     * @return a map from the function ID to its parameters. Functions without parameters map to an empty map.
+     */
+    public Map<Integer, LinkedHashMap<String, ParameterData>> getFunctionParametersAsMap(
+            Collection<Integer> functionIds) {
+        Map<Integer, LinkedHashMap<String, ParameterData>> parameterResults = new HashMap<>();
+        if (functionIds == null || functionIds.isEmpty()) {
             return parameterResults;
+        }
 
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            return getFunctionParametersAsMap(conn, functionIds);
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return new LinkedHashMap<>();
+            return new HashMap<>();
+        }
+    }
+
+    // Uses the caller's connection so that callers already holding one do not borrow a second from the pool
+    private Map<Integer, LinkedHashMap<String, ParameterData>> getFunctionParametersAsMap(
+            DatabaseConnectionPool.PooledConnection conn, Collection<Integer> functionIds) throws SQLException {
+        Map<Integer, LinkedHashMap<String, ParameterData>> parameterResults = new HashMap<>();
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(functionIds));
+        for (int from = 0; from < distinctIds.size(); from += MAX_BATCH_SIZE) {
+            List<Integer> batch = distinctIds.subList(from, Math.min(from + MAX_BATCH_SIZE, distinctIds.size()));
+            String sql = "SELECT " +
+                    "p.function_id, " +
+                    PARAMETER_COLUMNS +
+                    "FROM Parameter p " +
+                    "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
+                    "WHERE p.function_id IN (" + String.join(",", Collections.nCopies(batch.size(), "?")) + ") " +
+                    "ORDER BY p.function_id, p.parameter_id;";
+
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            int paramIndex = 1;
+            for (Integer functionId : batch) {
+                stmt.setInt(paramIndex++, functionId);
+            }
+
+            Map<Integer, LinkedHashMap<String, ParameterDataBuilder>> builders = new HashMap<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    addParameterRow(rs, builders.computeIfAbsent(rs.getInt("function_id"),
+                            k -> new LinkedHashMap<>()));
+                }
+            }
+            for (Integer functionId : batch) {
+                LinkedHashMap<String, ParameterDataBuilder> functionBuilders = builders.get(functionId);
+                parameterResults.put(functionId,
+                        functionBuilders == null ? new LinkedHashMap<>() : buildParameters(functionBuilders));
+            }
+        }
+        return parameterResults;
+    }
+
+    private static void addParameterRow(ResultSet rs, Map<String, ParameterDataBuilder> builders)
+            throws SQLException {
+        String paramName = rs.getString("name");
+
+        // Get or create the builder for this parameter
+        ParameterDataBuilder builder = builders.get(paramName);
+        if (builder == null) {
+            builder = new ParameterDataBuilder();
+            builder.parameterId = rs.getInt("parameter_id");
+            builder.name = paramName;
+            builder.type = rs.getString("type");
+            builder.kind = ParameterData.Kind.valueOf(rs.getString("kind"));
+            builder.defaultValue = rs.getString("default_value");
+            builder.description = rs.getString("description");
+            builder.optional = rs.getBoolean("optional");
+            builder.importStatements = rs.getString("import_statements");
+            builders.put(paramName, builder);
+        }
+
+        // Add member type if present
+        String memberType = rs.getString("member_type");
+        if (memberType != null) {
+            ParameterMemberTypeData memberData = new ParameterMemberTypeData(
+                    memberType, rs.getString("member_kind"), rs.getString("member_package"));
+            builder.typeMembers.add(memberData);
         }
     }
 
+    private static LinkedHashMap<String, ParameterData> buildParameters(
+            Map<String, ParameterDataBuilder> builders) {
+        // Convert builders to ParameterData
+        LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
+        for (ParameterDataBuilder builder : builders.values()) {
+            parameterResults.put(builder.name, builder.build());
+        }
+        return parameterResults;
+    }
+
     // Helper builder class
     private static class ParameterDataBuilder {
 
@@ -496,39 +573,70 @@ public class DatabaseManager {
                 "f.return_type, " +
                 "f.resource_path, " +
                 "f.return_error, " +
-                "f.inferred_return_type " +
+                "f.inferred_return_type, " +
+                "f.import_statements " +
                 "FROM Function f " +
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, connectorId);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        null, // packageName is not selected in this query
-                        null, // org is not selected in this query
-                        null, // version is not selected in this query
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            null, // packageName is not selected in this query
+                            null, // org is not selected in this query
+                            null, // version is not selected in this query
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                setParameters(conn, functionDataList);
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
         }
     }
 
+    /**
+     * Populates the parameters of the given functions using a single batched query.
+     *
+     * @param functions the functions retrieved from the index
+     */
+    public void setParameters(List<FunctionData> functions) {
+        if (functions.isEmpty()) {
+            return;
+        }
+        Map<Integer, LinkedHashMap<String, ParameterData>> parameters =
+                getFunctionParametersAsMap(functions.stream().map(FunctionData::functionId).toList());
+        for (FunctionData function : functions) {
+            function.setParameters(parameters.getOrDefault(function.functionId(), new LinkedHashMap<>()));
+        }
+    }
+
+    private void setParameters(DatabaseConnectionPool.PooledConnection conn, List<FunctionData> functions)
+            throws SQLException {
+        if (functions.isEmpty()) {
+            return;
+        }
+        Map<Integer, LinkedHashMap<String, ParameterData>> parameters =
+                getFunctionParametersAsMap(conn, functions.stream().map(FunctionData::functionId).toList());
+        for (FunctionData function : functions) {
+            function.setParameters(parameters.getOrDefault(function.functionId(), new LinkedHashMap<>()));
+        }
+    }
+
     public List<FunctionData> getMethods(String connectorName, String org, String packageName) {
         String sql = "SELECT " +
                 "f.function_id, " +
@@ -550,30 +658,31 @@ public class DatabaseManager {
                 "AND p.name = ? " +
                 "AND c.kind = 'CONNECTOR';";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, connectorName);
             stmt.setString(2, org);
             stmt.setString(3, packageName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        packageName,
-                        org,
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            packageName,
+                            org,
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -618,8 +727,8 @@ public class DatabaseManager {
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             int paramIndex = 1;
 
             // Set package name parameters
@@ -641,25 +750,26 @@ public class DatabaseManager {
             stmt.setInt(paramIndex++, queryMap.containsKey("limit") ? Integer.parseInt(queryMap.get("limit")) : 10);
             stmt.setInt(paramIndex, queryMap.containsKey("offset") ? Integer.parseInt(queryMap.get("offset")) : 0);
 
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
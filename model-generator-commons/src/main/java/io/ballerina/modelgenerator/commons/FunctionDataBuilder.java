@@ -249,6 +249,22 @@ public class FunctionDataBuilder {
 
         checkLocalModule();
 
+        // Reuse the function data of the external library symbols built for the previous requests
+        FunctionDataCache.Key cacheKey = getCacheKey();
+        if (cacheKey != null) {
+            Optional<FunctionData> cachedData = FunctionDataCache.getInstance().get(cacheKey);
+            if (cachedData.isPresent()) {
+                return cachedData.get();
+            }
+        }
+        FunctionData functionData = buildFunctionData();
+        if (cacheKey != null) {
+            FunctionDataCache.getInstance().put(cacheKey, functionData);
+        }
+        return functionData;
+    }
+
+    private FunctionData buildFunctionData() {
         // Check if the package is pulled
         if (semanticModel == null) {
             if (moduleInfo.version() == null) {
@@ -391,6 +407,33 @@ public class FunctionDataBuilder {
         return functionData;
     }
 
+    /**
+     * Returns the key of the function in the function data cache, or null if the function belongs to the current
+     * package, or its package version is not known.
+     */
+    private FunctionDataCache.Key getCacheKey() {
+        if (isCurrentModule || isLocal() || !moduleInfo.isComplete()) {
+            return null;
+        }
+        // Skip the other modules of the user's package
+        if (userModuleInfo != null && moduleInfo.org().equals(userModuleInfo.org()) &&
+                moduleInfo.packageName().equals(userModuleInfo.packageName())) {
+            return null;
+        }
+        String parent;
+        if (parentSymbol != null) {
+            parent = parentSymbol.getName().orElse("");
+        } else {
+            parent = parentSymbolType == null ? "" : parentSymbolType;
+        }
+        String symbol = functionSymbol == null ? "" : functionSymbol.getLocation()
+                .map(location -> location.lineRange().toString())
+                .orElse("");
+        return new FunctionDataCache.Key(moduleInfo.org(), moduleInfo.packageName(), moduleInfo.moduleName(),
+                moduleInfo.version(), parent, functionName, functionKind, resourcePath == null ? "" : resourcePath,
+                symbol, userModuleInfo);
+    }
+
     private void checkLocalModule() {
         if (project != null && moduleInfo != null && isLocal()) {
             for (Module module : project.currentPackage().modules()) {
@@ -584,8 +627,7 @@ public class FunctionDataBuilder {
         if (methods.isEmpty()) {
             return new ArrayList<>();
         }
-        methods.parallelStream()
-                .forEach(method -> method.setParameters(dbManager.getFunctionParametersAsMap(method.functionId())));
+        dbManager.setParameters(methods);
         return methods;
     }
 
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Process-wide cache of the function data built for the symbols of external library packages.
+ *
+ * <p>
+ * The function data of a published package version never changes, hence the package version is part of the key.
+ * When the function data of another version of a package is cached, which happens when the dependency graph of a
+ * project moves to that version, the entries of the previous version are removed. The least recently used entries are
+ * evicted beyond a fixed bound. Callers receive a copy of the cached function data, so that the cached parameter map
+ * is never modified.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FunctionDataCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Map<Key, FunctionData> entries;
+    private final Map<String, String> packageVersions;
+
+    private static class Holder {
+
+        private static final FunctionDataCache INSTANCE = new FunctionDataCache();
+    }
+
+    public static FunctionDataCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private FunctionDataCache() {
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, FunctionData> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.packageVersions = new HashMap<>();
+    }
+
+    /**
+     * Returns a copy of the cached function data for the given key.
+     *
+     * @param key the key identifying the function
+     * @return an Optional containing the function data if it is cached
+     */
+    public Optional<FunctionData> get(Key key) {
+        FunctionData functionData;
+        synchronized (entries) {
+            functionData = entries.get(key);
+        }
+        if (functionData == null) {
+            return Optional.empty();
+        }
+        return Optional.of(copy(functionData));
+    }
+
+    /**
+     * Caches a copy of the given function data.
+     *
+     * @param key          the key identifying the function
+     * @param functionData the function data to cache
+     */
+    public void put(Key key, FunctionData functionData) {
+        FunctionData copy = copy(functionData);
+        String packageKey = key.org() + "/" + key.packageName();
+        synchronized (entries) {
+            String previousVersion = packageVersions.put(packageKey, key.version());
+            if (previousVersion != null && !previousVersion.equals(key.version())) {
+                entries.keySet().removeIf(entry -> entry.org().equals(key.org()) &&
+                        entry.packageName().equals(key.packageName()) && !entry.version().equals(key.version()));
+            }
+            entries.put(key, copy);
+        }
+    }
+
+    /**
+     * Removes the cached function data of all the versions of the given package.
+     *
+     * @param org         the organization of the package
+     * @param packageName the name of the package
+     */
+    public void invalidate(String org, String packageName) {
+        synchronized (entries) {
+            packageVersions.remove(org + "/" + packageName);
+            entries.keySet().removeIf(key -> key.org().equals(org) && key.packageName().equals(packageName));
+        }
+    }
+
+    /**
+     * Removes all the cached function data.
+     */
+    public void clear() {
+        synchronized (entries) {
+            packageVersions.clear();
+            entries.clear();
+        }
+    }
+
+    private static FunctionData copy(FunctionData functionData) {
+        FunctionData copy = new FunctionData(functionData.functionId(), functionData.name(),
+                functionData.description(), functionData.returnType(), functionData.packageName(),
+                functionData.org(), functionData.version(), functionData.resourcePath(), functionData.kind(),
+                functionData.returnError(), functionData.inferredReturnType(), functionData.importStatements());
+        if (functionData.parameters() != null) {
+            copy.setParameters(new LinkedHashMap<>(functionData.parameters()));
+        }
+        copy.setPackageId(functionData.packageId());
+        return copy;
+    }
+
+    /**
+     * Represents the identity of a function of an external library package.
+     *
+     * @param org          the organization of the package
+     * @param packageName  the name of the package
+     * @param moduleName   the name of the module
+     * @param version      the version of the package
+     * @param parent       the name of the parent symbol, or an empty string for module-level functions
+     * @param functionName the name of the function
+     * @param kind         the kind of the function
+     * @param resourcePath the resource path of the function, or an empty string if it is not a resource function
+     * @param symbol       the location of the function symbol when it is resolved, or an empty string otherwise
+     * @param userModule   the module of the user from which the function is referred, which qualifies the types
+     */
+    public record Key(String org, String packageName, String moduleName, String version, String parent,
+                      String functionName, FunctionData.Kind kind, String resourcePath, String symbol,
+                      ModuleInfo userModule) {
+
+    }
+}
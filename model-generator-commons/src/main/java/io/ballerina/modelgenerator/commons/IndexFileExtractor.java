@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.jar.JarEntry;
+import java.util.logging.Logger;
+
+/**
+ * Extracts the SQLite index databases bundled as resources into a content-addressed cache directory.
+ *
+ * <p>
+ * Each database is extracted once per content and reused by subsequent language server processes, instead of being
+ * copied into a new temporary directory on every start. The cache key is derived from the CRC and size of the jar
+ * entry when the resource is packaged in a jar, and from the SHA-256 digest of the content otherwise. Concurrent
+ * extractions write to a temporary file and atomically move it into place.
+ * </p>
+ *
+ * <p>
+ * The cache directory is located in the Ballerina home of the user, rather than in the shared temporary directory, so
+ * that the cached databases cannot be replaced by other users. A cached database is only reused if its size matches
+ * the resource, and is extracted again otherwise. If the cache directory cannot be written, the database is extracted
+ * to a private temporary directory of the process instead.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class IndexFileExtractor {
+
+    private static final String CACHE_DIR_PROPERTY = "ballerina.modelgenerator.index.cache";
+    private static final String CACHE_DIR_NAME = "model-generator-index";
+    private static final String TEMP_DIR_PREFIX = "ballerina-model-generator-index";
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Logger LOGGER = Logger.getLogger(IndexFileExtractor.class.getName());
+
+    private IndexFileExtractor() {
+    }
+
+    /**
+     * Returns the path of the extracted index database, extracting it if the current content is not cached yet.
+     *
+     * @param classLoader  the class loader to load the resource from
+     * @param resourceName the name of the database resource
+     * @return the path of the extracted database file
+     */
+    static Path extract(ClassLoader classLoader, String resourceName) {
+        URL dbUrl = classLoader.getResource(resourceName);
+        if (dbUrl == null) {
+            throw new RuntimeException("Database resource not found: " + resourceName);
+        }
+
+        ContentKey contentKey;
+        try {
+            contentKey = getContentKey(dbUrl);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read the database resource: " + resourceName, e);
+        }
+
+        try {
+            return extractToCache(dbUrl, resourceName, contentKey);
+        } catch (IOException e) {
+            LOGGER.warning(String.format("Failed to cache the database file %s, extracting it to a temporary " +
+                    "directory: %s", resourceName, e.getMessage()));
+        }
+
+        try {
+            return extractToTempDirectory(dbUrl, resourceName);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to extract the database file: " + resourceName, e);
+        }
+    }
+
+    private static Path extractToCache(URL dbUrl, String resourceName, ContentKey contentKey) throws IOException {
+        Path indexFile = getCacheDirectory().resolve(contentKey.key()).resolve(resourceName);
+        if (Files.isRegularFile(indexFile)) {
+            if (Files.size(indexFile) == contentKey.size()) {
+                return indexFile;
+            }
+            // The cached file is incomplete or has been modified, hence replace it with the resource
+            Files.deleteIfExists(indexFile);
+        }
+
+        // Extract to a temporary file first, so that other processes never observe a partially written file
+        Files.createDirectories(indexFile.getParent());
+        Path tempFile = Files.createTempFile(indexFile.getParent(), resourceName, ".tmp");
+        try {
+            try (InputStream inputStream = dbUrl.openStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (Files.size(tempFile) != contentKey.size()) {
+                throw new IOException("Extracted database size does not match the resource: " + resourceName);
+            }
+            moveIntoPlace(tempFile, indexFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return indexFile;
+    }
+
+    private static Path extractToTempDirectory(URL dbUrl, String resourceName) throws IOException {
+        // The directory is only accessible by the current user
+        Path tempDir = Files.createTempDirectory(TEMP_DIR_PREFIX);
+        Path indexFile = tempDir.resolve(resourceName);
+        try (InputStream inputStream = dbUrl.openStream()) {
+            Files.copy(inputStream, indexFile);
+        }
+        indexFile.toFile().deleteOnExit();
+        tempDir.toFile().deleteOnExit();
+        return indexFile;
+    }
+
+    private static Path getCacheDirectory() {
+        String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        if (cacheDir != null && !cacheDir.isEmpty()) {
+            return Path.of(cacheDir);
+        }
+        return Path.of(System.getProperty("user.home"), ".ballerina", "cache", CACHE_DIR_NAME);
+    }
+
+    private static ContentKey getContentKey(URL dbUrl) throws IOException {
+        URLConnection connection = dbUrl.openConnection();
+        if (connection instanceof JarURLConnection jarConnection) {
+            // Avoid holding on to the jar file opened by the connection
+            jarConnection.setUseCaches(false);
+            JarEntry jarEntry = jarConnection.getJarEntry();
+            if (jarEntry != null && jarEntry.getCrc() != -1 && jarEntry.getSize() != -1) {
+                return new ContentKey(String.format("%08x-%d", jarEntry.getCrc(), jarEntry.getSize()),
+                        jarEntry.getSize());
+            }
+        }
+
+        MessageDigest digest = getDigest();
+        long size = 0;
+        try (InputStream inputStream = dbUrl.openStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return new ContentKey(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static void moveIntoPlace(Path tempFile, Path indexFile) throws IOException {
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tempFile, indexFile);
+            } catch (FileAlreadyExistsException ignored) {
+                // Another process has extracted the same content
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // Another process has extracted the same content
+        }
+    }
+
+    /**
+     * Represents the key identifying the content of a database resource in the cache, along with its size.
+     *
+     * @param key  the key of the content
+     * @param size the size of the content in bytes
+     */
+    private record ContentKey(String key, long size) {
+
+    }
+}
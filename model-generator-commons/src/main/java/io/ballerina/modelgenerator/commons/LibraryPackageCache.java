@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of compiled library packages and the semantic models of their default modules, keyed by the
+ * resolved package descriptor.
+ *
+ * <p>
+ * The cache retains the least recently used entries up to a fixed bound. Loading is single-flight: when concurrent
+ * requests ask for the same package, only the first one compiles it and the rest wait for that result. Packages that
+ * fail to resolve are not cached so that a later request can retry after the package is pulled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class LibraryPackageCache {
+
+    private static final int MAX_ENTRIES = 8;
+
+    private final Map<String, CompletableFuture<Optional<Entry>>> entries;
+
+    private static class Holder {
+
+        private static final LibraryPackageCache INSTANCE = new LibraryPackageCache();
+    }
+
+    public static LibraryPackageCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private LibraryPackageCache() {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Optional<Entry>>> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached entry for the given package, compiling it with the provided loader if it is not cached.
+     *
+     * @param descriptor the resolved descriptor of the package
+     * @param loader     the loader that resolves the package when it is not cached
+     * @return an Optional containing the compiled package and its semantic model
+     */
+    public Optional<Entry> get(PackageDescriptor descriptor, Supplier<Optional<Package>> loader) {
+        String key = getKey(descriptor);
+        CompletableFuture<Optional<Entry>> future;
+        boolean owner = false;
+        synchronized (entries) {
+            future = entries.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(key, future);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // The owner has already evicted the failed entry, hence load it again
+                return get(descriptor, loader);
+            }
+        }
+
+        try {
+            Optional<Entry> entry = loader.get().map(Entry::from);
+            if (entry.isEmpty()) {
+                remove(key, future);
+            }
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes all the cached packages.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void remove(String key, CompletableFuture<Optional<Entry>> future) {
+        synchronized (entries) {
+            entries.remove(key, future);
+        }
+    }
+
+    private static String getKey(PackageDescriptor descriptor) {
+        return String.format("%s/%s:%s", descriptor.org().value(), descriptor.name().value(),
+                descriptor.version().value().toString());
+    }
+
+    /**
+     * Represents a compiled library package along with the semantic model of its default module.
+     *
+     * @param balPackage    the compiled package
+     * @param semanticModel the semantic model of the default module
+     */
+    public record Entry(Package balPackage, SemanticModel semanticModel) {
+
+        private static Entry from(Package balPackage) {
+            SemanticModel semanticModel = PackageUtil.getCompilation(balPackage)
+                    .getSemanticModel(balPackage.getDefaultModule().moduleId());
+            return new Entry(balPackage, semanticModel);
+        }
+    }
+}
@@ -53,10 +53,12 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 /**
  * Utility class that contains methods to perform package-related operations.
@@ -66,6 +68,13 @@ import java.util.concurrent.locks.ReentrantLock;
 public class PackageUtil {
 
     private static final String BALLERINA_HOME_PROPERTY = "ballerina.home";
+    private static final String SAMPLE_PROJECT_DISTRIBUTION = "2201.12.0";
+
+    // Shared environment used by the sample projects and the bala projects resolved through them
+    private static final ProjectEnvironmentBuilder ENVIRONMENT_BUILDER = createEnvironmentBuilder();
+
+    // Sample projects keyed by the distribution version, created lazily and deleted on shutdown
+    private static final ConcurrentHashMap<String, BuildProject> SAMPLE_PROJECTS = new ConcurrentHashMap<>();
     private static final BuildProject SAMPLE_PROJECT = getSampleProject();
 
     private static final String PULLING_THE_MODULE_MESSAGE = "Pulling the module '%s' from the central";
@@ -75,7 +84,27 @@ public class PackageUtil {
     // Concurrent map to store locks for each project
     private static final ConcurrentHashMap<Path, ReentrantLock> PROJECT_LOCKS = new ConcurrentHashMap<>();
 
+    /**
+     * Returns the shared sample project of the default distribution version. The project is created once and reused
+     * across callers, hence callers that modify its documents should work on a duplicate.
+     *
+     * @return the shared sample project
+     */
     public static BuildProject getSampleProject() {
+        return getSampleProject(SAMPLE_PROJECT_DISTRIBUTION);
+    }
+
+    /**
+     * Returns the shared sample project of the given distribution version, creating it on the first request.
+     *
+     * @param distributionVersion the distribution version of the sample project
+     * @return the shared sample project
+     */
+    public static BuildProject getSampleProject(String distributionVersion) {
+        return SAMPLE_PROJECTS.computeIfAbsent(distributionVersion, PackageUtil::createSampleProject);
+    }
+
+    private static ProjectEnvironmentBuilder createEnvironmentBuilder() {
         // Obtain the Ballerina distribution path
         String ballerinaHome = System.getProperty(BALLERINA_HOME_PROPERTY);
         if (ballerinaHome == null || ballerinaHome.isEmpty()) {
@@ -85,9 +114,16 @@ public class PackageUtil {
             System.setProperty(BALLERINA_HOME_PROPERTY, distributionPath.toString());
         }
 
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        return environmentBuilder;
+    }
+
+    private static BuildProject createSampleProject(String distributionVersion) {
         try {
             // Create a temporary directory
             Path tempDir = Files.createTempDirectory("ballerina-sample");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteDirectory(tempDir)));
 
             // Create an empty main.bal file
             Path mainBalFile = tempDir.resolve("main.bal");
@@ -99,14 +135,28 @@ public class PackageUtil {
                     "org = \"wso2\"\n" +
                     "name = \"sample\"\n" +
                     "version = \"0.1.0\"\n" +
-                    "distribution = \"2201.12.0\"";
+                    "distribution = \"" + distributionVersion + "\"";
             Files.writeString(ballerinaTomlFile, tomlContent, StandardOpenOption.CREATE);
-            return BuildProject.load(tempDir);
+            return BuildProject.load(ENVIRONMENT_BUILDER, tempDir);
         } catch (IOException e) {
             throw new RuntimeException("Error occurred while creating the sample project", e);
         }
     }
 
+    private static void deleteDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // Best effort cleanup during the shutdown
+                }
+            });
+        } catch (IOException ignored) {
+            // Best effort cleanup during the shutdown
+        }
+    }
+
     /**
      * Retrieves the semantic model for a given package identified by organization, name, and version.
      *
@@ -116,13 +166,27 @@ public class PackageUtil {
      * @return An Optional containing the semantic model.
      */
     public static Optional<SemanticModel> getSemanticModel(String org, String name, String version) {
-        return getModulePackage(getSampleProject(), org, name, version).map(
-                pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
+        PackageDescriptor descriptor =
+                PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name), PackageVersion.from(version));
+        return LibraryPackageCache.getInstance()
+                .get(descriptor, () -> getModulePackage(getSampleProject(), org, name, version))
+                .map(LibraryPackageCache.Entry::semanticModel);
     }
 
+    /**
+     * Retrieves the semantic model for the latest locally available version of the package identified by
+     * organization and name.
+     *
+     * @param org  The organization name of the package
+     * @param name The name of the package
+     * @return An Optional containing the semantic model.
+     */
     public static Optional<SemanticModel> getSemanticModel(String org, String name) {
-        return getModulePackage(getSampleProject(), org, name).map(
-                pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
+        PackageResolver packageResolver = SAMPLE_PROJECT.projectEnvironmentContext().getService(PackageResolver.class);
+        return resolvePackageDescriptor(packageResolver, org, name)
+                .flatMap(descriptor -> LibraryPackageCache.getInstance()
+                        .get(descriptor, () -> getModulePackage(getSampleProject(), descriptor)))
+                .map(LibraryPackageCache.Entry::semanticModel);
     }
 
     /**
@@ -150,26 +214,31 @@ public class PackageUtil {
         }
 
         Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
-        ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
-        BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
+        BalaProject balaProject = BalaProject.loadProject(ENVIRONMENT_BUILDER, balaPath);
         return Optional.ofNullable(balaProject.currentPackage());
     }
 
     public static Optional<Package> getModulePackage(BuildProject buildProject, String org, String name) {
+        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
+        return resolvePackageDescriptor(packageResolver, org, name)
+                .flatMap(descriptor -> getModulePackage(buildProject, descriptor));
+    }
+
+    private static Optional<PackageDescriptor> resolvePackageDescriptor(PackageResolver packageResolver, String org,
+                                                                        String name) {
         ResolutionRequest resolutionRequest = ResolutionRequest.from(
                 PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name)));
-        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
         Collection<PackageMetadataResponse> packageMetadataResponses = packageResolver.resolvePackageMetadata(
                 Collections.singletonList(resolutionRequest),
                 ResolutionOptions.builder().setOffline(true).build());
-        Optional<PackageMetadataResponse> pkgMetadata = packageMetadataResponses.stream().findFirst();
-        if (pkgMetadata.isEmpty()) {
-            return Optional.empty();
-        }
+        return packageMetadataResponses.stream().findFirst()
+                .map(PackageMetadataResponse::resolvedDescriptor);
+    }
 
+    private static Optional<Package> getModulePackage(BuildProject buildProject, PackageDescriptor descriptor) {
+        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
         Collection<ResolutionResponse> resolutionResponses = packageResolver.resolvePackages(
-                Collections.singletonList(ResolutionRequest.from(pkgMetadata.get().resolvedDescriptor())),
+                Collections.singletonList(ResolutionRequest.from(descriptor)),
                 ResolutionOptions.builder().setOffline(false).build());
         Optional<ResolutionResponse> resolutionResponse = resolutionResponses.stream().findFirst();
         if (resolutionResponse.isEmpty()) {
@@ -177,9 +246,7 @@ public class PackageUtil {
         }
 
         Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
-        ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
-        BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
+        BalaProject balaProject = BalaProject.loadProject(ENVIRONMENT_BUILDER, balaPath);
         return Optional.ofNullable(balaProject.currentPackage());
     }
 
@@ -0,0 +1,275 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A pool of warm duplicates of the workspace projects, used to compile hypothetical edits without modifying the
+ * workspace.
+ *
+ * <p>
+ * A borrowed {@link Fork} is first brought in sync with the current state of the workspace project, by applying only
+ * the documents that have changed since it was last used, so that the compiler reuses its previous work. The edits
+ * applied to the fork are reverted when it is returned. A fork is discarded instead of being synced when the
+ * workspace project is reloaded, documents are added or removed, or the Ballerina.toml changes.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ProjectForkPool {
+
+    private static final int MAX_FORKS_PER_PROJECT = 2;
+    private static final int MAX_PROJECTS = 4;
+
+    private final Map<Path, Deque<Fork>> idleForks;
+
+    private static class Holder {
+
+        private static final ProjectForkPool INSTANCE = new ProjectForkPool();
+    }
+
+    public static ProjectForkPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private ProjectForkPool() {
+        this.idleForks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Deque<Fork>> eldest) {
+                return size() > MAX_PROJECTS;
+            }
+        };
+    }
+
+    /**
+     * Borrows a fork of the given project that reflects its current state. The fork must be closed once the documents
+     * and semantic models obtained from it are no longer used.
+     *
+     * @param project the workspace project
+     * @return a fork of the project
+     */
+    public Fork acquire(Project project) {
+        Path sourceRoot = project.sourceRoot();
+        while (true) {
+            Fork fork;
+            synchronized (idleForks) {
+                Deque<Fork> forks = idleForks.get(sourceRoot);
+                fork = forks == null ? null : forks.poll();
+            }
+            if (fork == null) {
+                break;
+            }
+            if (fork.sync(project)) {
+                return fork;
+            }
+        }
+        return new Fork(project);
+    }
+
+    /**
+     * Removes all the idle forks.
+     */
+    public void clear() {
+        synchronized (idleForks) {
+            idleForks.clear();
+        }
+    }
+
+    private static Map<DocumentId, SyntaxTree> getSyntaxTrees(Package balPackage) {
+        Map<DocumentId, SyntaxTree> syntaxTrees = new HashMap<>();
+        for (Module module : balPackage.modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                syntaxTrees.put(documentId, module.document(documentId).syntaxTree());
+            }
+        }
+        return syntaxTrees;
+    }
+
+    private static String getBallerinaToml(Package balPackage) {
+        return balPackage.ballerinaToml()
+                .map(BallerinaToml::tomlDocument)
+                .map(tomlDocument -> tomlDocument.textDocument().toString())
+                .orElse(null);
+    }
+
+    private void release(Fork fork) {
+        synchronized (idleForks) {
+            Deque<Fork> forks = idleForks.computeIfAbsent(fork.sourceProject.sourceRoot(), k -> new ArrayDeque<>());
+            if (forks.size() < MAX_FORKS_PER_PROJECT) {
+                forks.push(fork);
+            }
+        }
+    }
+
+    /**
+     * A duplicate of a workspace project on which hypothetical edits can be applied and compiled.
+     */
+    public final class Fork implements AutoCloseable {
+
+        private final Project sourceProject;
+        private final Project project;
+        private final Map<DocumentId, String> originalContents;
+        private Package syncedPackage;
+        private Map<DocumentId, SyntaxTree> syncedSyntaxTrees;
+        private String syncedBallerinaToml;
+        private boolean released;
+
+        private Fork(Project sourceProject) {
+            this.sourceProject = sourceProject;
+            this.project = sourceProject.duplicate();
+            this.originalContents = new HashMap<>();
+            this.syncedPackage = sourceProject.currentPackage();
+            this.syncedSyntaxTrees = getSyntaxTrees(syncedPackage);
+            this.syncedBallerinaToml = getBallerinaToml(syncedPackage);
+        }
+
+        /**
+         * Returns the forked project.
+         *
+         * @return the forked project
+         */
+        public Project project() {
+            return project;
+        }
+
+        /**
+         * Returns the document of the forked project with the given id.
+         *
+         * @param documentId the id of the document
+         * @return the document of the forked project
+         */
+        public Document document(DocumentId documentId) {
+            return project.currentPackage().module(documentId.moduleId()).document(documentId);
+        }
+
+        /**
+         * Replaces the content of the given document in the forked project.
+         *
+         * @param documentId the id of the document
+         * @param content    the new content of the document
+         * @return the modified document
+         */
+        public Document apply(DocumentId documentId, String content) {
+            Document document = document(documentId);
+            originalContents.putIfAbsent(documentId, document.textDocument().toString());
+            return document.modify().withContent(content).apply();
+        }
+
+        /**
+         * Applies the given text edits on the document in the forked project.
+         *
+         * @param documentId the id of the document
+         * @param textEdits  the text edits to apply
+         * @return the modified document
+         */
+        public Document apply(DocumentId documentId, TextEdit... textEdits) {
+            TextDocument textDocument = document(documentId).textDocument();
+            TextDocument modifiedTextDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+            return apply(documentId, String.join(System.lineSeparator(), modifiedTextDocument.textLines()));
+        }
+
+        /**
+         * Compiles the forked project and returns the semantic model of the given module.
+         *
+         * @param moduleId the id of the module
+         * @return the semantic model of the module
+         */
+        public SemanticModel semanticModel(ModuleId moduleId) {
+            return PackageUtil.getCompilation(project).getSemanticModel(moduleId);
+        }
+
+        /**
+         * Reverts the edits applied on the fork and returns it to the pool.
+         */
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                originalContents.forEach((documentId, content) -> document(documentId).modify()
+                        .withContent(content).apply());
+                originalContents.clear();
+            } catch (RuntimeException e) {
+                // Do not return a fork that could not be reverted
+                return;
+            }
+            release(this);
+        }
+
+        /**
+         * Brings the fork in sync with the current state of the workspace project.
+         *
+         * @return true if the fork is in sync, false if it should be discarded
+         */
+        private boolean sync(Project currentProject) {
+            if (currentProject != sourceProject) {
+                return false;
+            }
+            Package currentPackage = currentProject.currentPackage();
+            if (currentPackage == syncedPackage) {
+                released = false;
+                return true;
+            }
+            Map<DocumentId, SyntaxTree> syntaxTrees = getSyntaxTrees(currentPackage);
+            String ballerinaToml = getBallerinaToml(currentPackage);
+            if (!syntaxTrees.keySet().equals(syncedSyntaxTrees.keySet()) ||
+                    !Objects.equals(ballerinaToml, syncedBallerinaToml)) {
+                return false;
+            }
+
+            // Apply only the documents that have changed, which are the ones with a new syntax tree
+            try {
+                for (Map.Entry<DocumentId, SyntaxTree> entry : syntaxTrees.entrySet()) {
+                    SyntaxTree syntaxTree = entry.getValue();
+                    if (syntaxTree != syncedSyntaxTrees.get(entry.getKey())) {
+                        document(entry.getKey()).modify().withContent(syntaxTree.textDocument().toString()).apply();
+                    }
+                }
+            } catch (RuntimeException e) {
+                return false;
+            }
+            syncedPackage = currentPackage;
+            syncedSyntaxTrees = syntaxTrees;
+            released = false;
+            return true;
+        }
+    }
+}
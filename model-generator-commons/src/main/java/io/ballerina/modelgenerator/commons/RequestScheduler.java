@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Schedules the requests of the language server extensions on dedicated bounded executors.
+ *
+ * <p>
+ * Requests are classified as {@link Kind#INTERACTIVE}, which are expected to respond while the user types, or
+ * {@link Kind#HEAVY}, which compile or analyze the project. Each kind has its own pool of threads, so that long
+ * compilations never delay the cheap requests, and its own bounded queue. The number of threads of each pool limits the
+ * concurrency of its kind, and can be configured with the {@code ballerina.modelgenerator.interactiveThreads} and
+ * {@code ballerina.modelgenerator.heavyThreads} system properties.
+ * </p>
+ *
+ * <p>
+ * A request can be canceled by the client, or superseded by a newer request with the same key, such as a request for
+ * the same canvas. A canceled request is dropped if it has not started yet, and is otherwise signaled through its
+ * {@link CancellationToken}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RequestScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestScheduler.class.getName());
+
+    private static final String INTERACTIVE_THREADS_PROPERTY = "ballerina.modelgenerator.interactiveThreads";
+    private static final String HEAVY_THREADS_PROPERTY = "ballerina.modelgenerator.heavyThreads";
+    private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final int DEFAULT_INTERACTIVE_THREADS = Math.max(2, Math.min(8, AVAILABLE_PROCESSORS));
+    private static final int DEFAULT_HEAVY_THREADS = Math.max(1, Math.min(4, AVAILABLE_PROCESSORS / 2));
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final Map<Kind, Lane> lanes;
+    private final Map<String, CompletableFuture<?>> pendingRequests;
+
+    private static class Holder {
+
+        private static final RequestScheduler INSTANCE = new RequestScheduler();
+    }
+
+    public static RequestScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private RequestScheduler() {
+        this.lanes = new EnumMap<>(Kind.class);
+        lanes.put(Kind.INTERACTIVE, new Lane("interactive",
+                getThreadCount(INTERACTIVE_THREADS_PROPERTY, DEFAULT_INTERACTIVE_THREADS)));
+        lanes.put(Kind.HEAVY, new Lane("heavy", getThreadCount(HEAVY_THREADS_PROPERTY, DEFAULT_HEAVY_THREADS)));
+        this.pendingRequests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Runs the given supplier on the executor of the given kind of requests.
+     *
+     * @param kind     the kind of the request
+     * @param supplier the supplier computing the response
+     * @param <T>      the type of the response
+     * @return a future completed with the response, or exceptionally if the queue of the kind is full
+     */
+    public <T> CompletableFuture<T> supplyAsync(Kind kind, Supplier<T> supplier) {
+        return supplyAsync(kind, null, supplier);
+    }
+
+    /**
+     * Runs the given supplier on the executor of the given kind of requests, canceling the pending request with the
+     * same key. Canceling the returned future, which happens when the client cancels the request, cancels the
+     * {@link CancellationToken} bound to the supplier. A canceled request that has not started yet is never run.
+     *
+     * @param kind         the kind of the request
+     * @param supersedeKey the key identifying the requests superseded by this one, or null if it does not supersede
+     * @param supplier     the supplier computing the response
+     * @param <T>          the type of the response
+     * @return a future completed with the response, or exceptionally if the request is canceled or the queue of the
+     * kind is full
+     */
+    public <T> CompletableFuture<T> supplyAsync(Kind kind, String supersedeKey, Supplier<T> supplier) {
+        Lane lane = lanes.get(kind);
+        CancellationToken token = new CancellationToken();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                token.cancel();
+                lane.canceled.incrementAndGet();
+            }
+            if (supersedeKey != null) {
+                pendingRequests.remove(supersedeKey, future);
+            }
+        });
+        if (supersedeKey != null) {
+            CompletableFuture<?> previous = pendingRequests.put(supersedeKey, future);
+            if (previous != null) {
+                previous.cancel(true);
+            }
+        }
+
+        long submitTime = System.nanoTime();
+        try {
+            lane.executor.execute(() -> {
+                lane.waitTimeNanos.addAndGet(System.nanoTime() - submitTime);
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(token.run(supplier));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    lane.completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lane.rejected.incrementAndGet();
+            LOGGER.warning("Rejected a " + lane.name + " request as " + QUEUE_CAPACITY + " requests are queued");
+            future.completeExceptionally(e);
+            return future;
+        }
+        lane.submitted.incrementAndGet();
+        lane.maxQueueDepth.accumulateAndGet(lane.executor.getQueue().size(), Math::max);
+        return future;
+    }
+
+    /**
+     * Returns the executor of the given kind of requests.
+     *
+     * @param kind the kind of the requests
+     * @return the executor of the kind
+     */
+    public Executor executor(Kind kind) {
+        return lanes.get(kind).executor;
+    }
+
+    /**
+     * Returns the statistics of the executor of the given kind of requests.
+     *
+     * @param kind the kind of the requests
+     * @return the statistics of the executor
+     */
+    public Statistics getStatistics(Kind kind) {
+        Lane lane = lanes.get(kind);
+        return new Statistics(lane.executor.getMaximumPoolSize(), lane.executor.getActiveCount(),
+                lane.executor.getQueue().size(), lane.maxQueueDepth.get(), lane.submitted.get(), lane.completed.get(),
+                lane.rejected.get(), lane.canceled.get(), lane.waitTimeNanos.get());
+    }
+
+    private static int getThreadCount(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int threadCount = Integer.parseInt(value.trim());
+            return threadCount > 0 ? threadCount : defaultValue;
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Invalid value for " + property + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Represents the kinds of requests, each of which is scheduled on its own executor.
+     */
+    public enum Kind {
+        /**
+         * Requests that are cheap and latency-sensitive, such as completions, node templates and searches.
+         */
+        INTERACTIVE,
+        /**
+         * Requests that compile or analyze the project, such as generating the flow model or the design model.
+         */
+        HEAVY
+    }
+
+    /**
+     * Represents the executor of a kind of requests along with its counters.
+     */
+    private static final class Lane {
+
+        private final String name;
+        private final ThreadPoolExecutor executor;
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong canceled = new AtomicLong();
+        private final AtomicLong waitTimeNanos = new AtomicLong();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+        private Lane(String name, int threadCount) {
+            this.name = name;
+            this.executor = new ThreadPoolExecutor(threadCount, threadCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(QUEUE_CAPACITY), createThreadFactory(name));
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private static ThreadFactory createThreadFactory(String name) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "model-generator-" + name + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Represents the statistics of the executor of a kind of requests.
+     *
+     * @param threads       the maximum number of requests of the kind that run concurrently
+     * @param active        the number of requests currently running
+     * @param queueDepth    the number of requests currently waiting for a thread
+     * @param maxQueueDepth the maximum number of requests observed waiting for a thread
+     * @param submitted     the number of requests accepted
+     * @param completed     the number of requests completed
+     * @param rejected      the number of requests rejected as the queue was full
+     * @param canceled      the number of requests canceled by the client or superseded by a newer request
+     * @param waitTimeNanos the total time the requests spent waiting for a thread, in nanoseconds
+     */
+    public record Statistics(int threads, int active, int queueDepth, int maxQueueDepth, long submitted,
+                             long completed, long rejected, long canceled, long waitTimeNanos) {
+
+    }
+}
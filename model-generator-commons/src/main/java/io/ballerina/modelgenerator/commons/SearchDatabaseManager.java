@@ -18,18 +18,23 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -40,13 +45,34 @@ import java.util.logging.Logger;
  * package and function information.
  * </p>
  *
+ * <p>
+ * The full-text searches are answered by an in-memory {@link SearchIndex} of each searchable table, which is built in
+ * the background once the manager is created. The FTS5 tables of the database answer the searches until the in-memory
+ * indexes are ready, or if they fail to build.
+ * </p>
+ *
+ * <p>
+ * The full-text searches can also be read page by page through server-side cursors. A cursor keeps the position of the
+ * last page read, so that the next page continues after it instead of ranking and skipping the results of the earlier
+ * pages. The entries matching the query are ranked once for the first page, by the in-memory index if it is ready and
+ * by the FTS table otherwise, and the cursor keeps them in the order of their rank. The cursors expire after a short
+ * time, and the least recently used cursors are evicted beyond a fixed bound.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class SearchDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(SearchDatabaseManager.class.getName());
-    private final String dbPath;
+    // Weights of the name, description and package name columns in the bm25 rank of the FTS tables
+    private static final double[] RANK_WEIGHTS = {10.0, 2.0, 5.0};
+    private static final int MAX_CURSORS = 64;
+    private static final long CURSOR_EXPIRY_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private final DatabaseConnectionPool connectionPool;
+    private final String indexVersion;
+    private final CompletableFuture<Map<SearchTable, SearchIndex>> searchIndexes;
+    private final Map<String, SearchCursor> cursors;
 
     private static class Holder {
 
@@ -64,25 +90,46 @@ public class SearchDatabaseManager {
             throw new RuntimeException("Failed to load SQLite JDBC driver", e);
         }
 
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
+        Path indexFile = IndexFileExtractor.extract(getClass().getClassLoader(), INDEX_FILE_NAME);
+        connectionPool = new DatabaseConnectionPool("jdbc:sqlite:" + indexFile);
+        // The index is extracted to a directory named after its content
+        Path indexDir = indexFile.getParent();
+        indexVersion = indexDir == null ? "" : String.valueOf(indexDir.getFileName());
+        searchIndexes = buildSearchIndexes();
+        cursors = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SearchCursor> eldest) {
+                return size() > MAX_CURSORS;
+            }
+        };
+    }
 
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
-        }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
+    /**
+     * Returns the version of the search index, which changes whenever the content of the index changes.
+     *
+     * @return the version of the search index
+     */
+    public String getIndexVersion() {
+        return indexVersion;
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile;
+    /**
+     * Returns whether the in-memory search indexes are built, after which the full-text searches no longer query the
+     * database.
+     *
+     * @return true if the in-memory search indexes are ready
+     */
+    public boolean isSearchIndexReady() {
+        return searchIndexes.isDone() && !searchIndexes.isCompletedExceptionally();
+    }
+
+    /**
+     * Returns the hit, miss and wait counters of the underlying connection pool.
+     *
+     * @return the connection pool statistics
+     */
+    public DatabaseConnectionPool.Statistics getConnectionPoolStatistics() {
+        return connectionPool.getStatistics();
     }
 
     /**
@@ -95,6 +142,11 @@ public class SearchDatabaseManager {
      * @throws RuntimeException if there is an error executing the search or if the limit or offset values are invalid
      */
     public List<SearchResult> searchFunctions(String q, int limit, int offset) {
+        Optional<List<SearchResult>> indexedResults = searchIndex(SearchTable.FUNCTION, q, limit, offset);
+        if (indexedResults.isPresent()) {
+            return indexedResults.get();
+        }
+
         List<SearchResult> results = new ArrayList<>();
         String sql = """
                 SELECT
@@ -110,13 +162,13 @@ public class SearchDatabaseManager {
                 JOIN Function AS f ON fts.rowid = f.id
                 JOIN Package AS p ON f.package_id = p.id
                 WHERE fts.FunctionFTS MATCH ?
-                ORDER BY fts.rank
+                ORDER BY fts.rank, f.id
                 LIMIT ?
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -144,6 +196,20 @@ public class SearchDatabaseManager {
         return results;
     }
 
+    /**
+     * Reads a page of the functions matching the given query.
+     *
+     * @param q      the search query string, which is ignored when a cursor is given
+     * @param limit  the maximum number of results of the page
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     * @return the page of the search results matching the query
+     * @throws IllegalArgumentException if the cursor is unknown or has expired, or if the limit is not positive
+     * @throws RuntimeException         if there is an error executing the search
+     */
+    public SearchPage searchFunctions(String q, int limit, String cursor) {
+        return searchPage(SearchTable.FUNCTION, q, limit, cursor);
+    }
+
     /**
      * Searches for connectors in the database based on the given query.
      *
@@ -154,6 +220,11 @@ public class SearchDatabaseManager {
      * @throws RuntimeException if there is an error executing the search or if the limit or offset values are invalid
      */
     public List<SearchResult> searchConnectors(String q, int limit, int offset) {
+        Optional<List<SearchResult>> indexedResults = searchIndex(SearchTable.CONNECTOR, q, limit, offset);
+        if (indexedResults.isPresent()) {
+            return indexedResults.get();
+        }
+
         List<SearchResult> results = new ArrayList<>();
         String sql = """
                 SELECT
@@ -169,13 +240,13 @@ public class SearchDatabaseManager {
                 JOIN Connector AS c ON fts.rowid = c.id
                 JOIN Package AS p ON c.package_id = p.id
                 WHERE fts.ConnectorFTS MATCH ?
-                ORDER BY fts.rank
+                ORDER BY fts.rank, c.id
                 LIMIT ?
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -203,6 +274,20 @@ public class SearchDatabaseManager {
         return results;
     }
 
+    /**
+     * Reads a page of the connectors matching the given query.
+     *
+     * @param q      the search query string, which is ignored when a cursor is given
+     * @param limit  the maximum number of results of the page
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     * @return the page of the search results matching the query
+     * @throws IllegalArgumentException if the cursor is unknown or has expired, or if the limit is not positive
+     * @throws RuntimeException         if there is an error executing the search
+     */
+    public SearchPage searchConnectors(String q, int limit, String cursor) {
+        return searchPage(SearchTable.CONNECTOR, q, limit, cursor);
+    }
+
     /**
      * Searches for functions that match both the given package names and function names.
      *
@@ -244,8 +329,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names
             int paramIndex = 1;
@@ -318,8 +403,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names and connector names
             int paramIndex = 1;
@@ -363,6 +448,11 @@ public class SearchDatabaseManager {
      * @throws RuntimeException if there is an error executing the search or if the limit or offset values are invalid
      */
     public List<SearchResult> searchTypes(String q, int limit, int offset) {
+        Optional<List<SearchResult>> indexedResults = searchIndex(SearchTable.TYPE, q, limit, offset);
+        if (indexedResults.isPresent()) {
+            return indexedResults.get();
+        }
+
         List<SearchResult> results = new ArrayList<>();
         String sql = """
                 SELECT
@@ -378,13 +468,13 @@ public class SearchDatabaseManager {
                 JOIN Type AS t ON fts.rowid = t.id
                 JOIN Package AS p ON t.package_id = p.id
                 WHERE fts.TypeFTS MATCH ?
-                ORDER BY fts.rank
+                ORDER BY fts.rank, t.id
                 LIMIT ?
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -412,6 +502,20 @@ public class SearchDatabaseManager {
         return results;
     }
 
+    /**
+     * Reads a page of the types matching the given query.
+     *
+     * @param q      the search query string, which is ignored when a cursor is given
+     * @param limit  the maximum number of results of the page
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     * @return the page of the search results matching the query
+     * @throws IllegalArgumentException if the cursor is unknown or has expired, or if the limit is not positive
+     * @throws RuntimeException         if there is an error executing the search
+     */
+    public SearchPage searchTypes(String q, int limit, String cursor) {
+        return searchPage(SearchTable.TYPE, q, limit, cursor);
+    }
+
     /**
      * Searches for types that match the given package names.
      *
@@ -441,8 +545,8 @@ public class SearchDatabaseManager {
                 .append(")");
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names
             int paramIndex = 1;
@@ -474,6 +578,182 @@ public class SearchDatabaseManager {
         return results;
     }
 
+    private Optional<List<SearchResult>> searchIndex(SearchTable table, String q, int limit, int offset) {
+        if (!isSearchIndexReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(searchIndexes.join().get(table).search(sanitizeQuery(q), limit, offset));
+    }
+
+    private SearchPage searchPage(SearchTable table, String q, int limit, String cursorId) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit of a search page must be positive: " + limit);
+        }
+        SearchCursor cursor;
+        if (cursorId == null || cursorId.isEmpty()) {
+            String query = sanitizeQuery(q);
+            cursor = isSearchIndexReady() ?
+                    new SearchCursor(table, searchIndexes.join().get(table).rank(query), null, 0, System.nanoTime()) :
+                    new SearchCursor(table, null, rankFts(table, query), 0, System.nanoTime());
+        } else {
+            cursor = getCursor(table, cursorId);
+        }
+
+        List<SearchResult> results;
+        int size;
+        if (cursor.ranking() != null) {
+            results = cursor.ranking().page(cursor.position(), limit);
+            size = cursor.ranking().size();
+        } else {
+            results = readRows(table, cursor.rowIds(), cursor.position(), limit);
+            size = cursor.rowIds().length;
+        }
+        int position = cursor.position() + results.size();
+        String nextCursor = position < size ? putCursor(new SearchCursor(table, cursor.ranking(), cursor.rowIds(),
+                position, System.nanoTime())) : null;
+        return new SearchPage(results, nextCursor);
+    }
+
+    /**
+     * Ranks the entries matching the query with the FTS table, once for all the pages of the search.
+     *
+     * @return the row IDs of the matching entries, in the order of their rank
+     */
+    private long[] rankFts(SearchTable table, String query) {
+        String sql = """
+                SELECT t.id
+                FROM %1$sFTS AS fts
+                JOIN %1$s AS t ON fts.rowid = t.id
+                JOIN Package AS p ON t.package_id = p.id
+                WHERE fts.%1$sFTS MATCH ?
+                ORDER BY fts.rank, t.id;
+                """.formatted(table.tableName);
+
+        List<Long> rowIds = new ArrayList<>();
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            stmt.setString(1, query + "*");
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rowIds.add(rs.getLong("id"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error searching " + table.tableName + " entries: " + e.getMessage());
+            throw new RuntimeException("Failed to search " + table.tableName + " entries", e);
+        }
+        return rowIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Reads the entries of a page of the ranked row IDs, in the order of their rank.
+     */
+    private List<SearchResult> readRows(SearchTable table, long[] rowIds, int offset, int limit) {
+        int from = Math.min(offset, rowIds.length);
+        int to = (int) Math.min((long) from + limit, rowIds.length);
+        if (from == to) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT t.id, t.name, t.description, p.name AS package_name, p.org AS package_org, " +
+                "p.version AS package_version FROM " + table.tableName + " AS t " +
+                "JOIN Package AS p ON t.package_id = p.id WHERE t.id IN (" +
+                String.join(",", Collections.nCopies(to - from, "?")) + ")";
+
+        Map<Long, SearchResult> resultsById = new HashMap<>();
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            for (int i = from; i < to; i++) {
+                stmt.setLong(i - from + 1, rowIds[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    resultsById.put(rs.getLong("id"), SearchResult.from(rs.getString("package_org"),
+                            rs.getString("package_name"), rs.getString("package_version"), rs.getString("name"),
+                            rs.getString("description")));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error searching " + table.tableName + " entries: " + e.getMessage());
+            throw new RuntimeException("Failed to search " + table.tableName + " entries", e);
+        }
+
+        List<SearchResult> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            SearchResult result = resultsById.get(rowIds[i]);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private SearchCursor getCursor(SearchTable table, String cursorId) {
+        SearchCursor cursor;
+        synchronized (cursors) {
+            cursor = cursors.get(cursorId);
+            if (cursor != null && cursor.isExpired()) {
+                cursors.remove(cursorId);
+                cursor = null;
+            }
+        }
+        if (cursor == null) {
+            throw new IllegalArgumentException("Unknown or expired search cursor: " + cursorId);
+        }
+        if (cursor.table() != table) {
+            throw new IllegalArgumentException("The search cursor does not belong to the " + table.tableName +
+                    " search: " + cursorId);
+        }
+        return cursor;
+    }
+
+    private String putCursor(SearchCursor cursor) {
+        String cursorId = UUID.randomUUID().toString();
+        synchronized (cursors) {
+            cursors.put(cursorId, cursor);
+        }
+        return cursorId;
+    }
+
+    private CompletableFuture<Map<SearchTable, SearchIndex>> buildSearchIndexes() {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                Map<SearchTable, SearchIndex> indexes = new EnumMap<>(SearchTable.class);
+                for (SearchTable table : SearchTable.values()) {
+                    indexes.put(table, SearchIndex.build(readRows(table), RANK_WEIGHTS));
+                }
+                return indexes;
+            }, RequestScheduler.getInstance().executor(RequestScheduler.Kind.HEAVY)).whenComplete((indexes, e) -> {
+                if (e != null) {
+                    LOGGER.log(Level.WARNING, "Failed to build the search index, falling back to the database", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warning("Failed to schedule building the search index, falling back to the database");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<SearchIndex.Row> readRows(SearchTable table) {
+        List<SearchIndex.Row> rows = new ArrayList<>();
+        String sql = "SELECT t.id, t.name, t.description, p.name AS package_name, p.org AS package_org, " +
+                "p.version AS package_version FROM " + table.tableName + " AS t " +
+                "JOIN Package AS p ON t.package_id = p.id ORDER BY t.id";
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    SearchResult.Package packageInfo = new SearchResult.Package(rs.getString("package_org"),
+                            rs.getString("package_name"), rs.getString("package_version"));
+                    rows.add(new SearchIndex.Row(rs.getLong("id"), packageInfo, rs.getString("name"),
+                            rs.getString("description")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read the " + table.tableName + " table", e);
+        }
+        return rows;
+    }
+
     private static String sanitizeQuery(String q) {
         if (q == null || q.trim().isEmpty()) {
             return "";
@@ -483,4 +763,36 @@ public class SearchDatabaseManager {
                 .trim();
     }
 
+    /**
+     * Represents the position of a paginated search after a page has been read. The entries matching the query are
+     * ranked once, when the first page is read, either by the in-memory index or by the FTS table.
+     *
+     * @param table       the table being searched
+     * @param ranking     the ranked entries of the in-memory index, or null if the FTS table ranked the entries
+     * @param rowIds      the row IDs of the entries ranked by the FTS table, or null if the in-memory index ranked them
+     * @param position    the number of results read so far
+     * @param createdTime the time the cursor was created, in nanoseconds
+     */
+    private record SearchCursor(SearchTable table, SearchIndex.Ranking ranking, long[] rowIds, int position,
+                                long createdTime) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - createdTime > CURSOR_EXPIRY_NANOS;
+        }
+    }
+
+    /**
+     * Represents the tables of the search index that are searched by their full-text index.
+     */
+    private enum SearchTable {
+        FUNCTION("Function"),
+        CONNECTOR("Connector"),
+        TYPE("Type");
+
+        private final String tableName;
+
+        SearchTable(String tableName) {
+            this.tableName = tableName;
+        }
+    }
 }
@@ -0,0 +1,344 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An in-memory full-text index over the name, description and package name of the entries of a table in the search
+ * index.
+ *
+ * <p>
+ * The index answers the same queries as the FTS5 tables of the search index, without a round trip to SQLite: the terms
+ * of the query must all be present in an entry, and the last term matches any term it is a prefix of. The terms are
+ * kept in a sorted dictionary, so that the terms sharing a prefix are found with a binary search. The entries are
+ * ranked with the BM25 function of FTS5, using the same column weights, and the entries with the same rank are
+ * ordered by their row ID.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class SearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final long[] rowIds;
+    private final SearchResult.Package[] packages;
+    private final String[] names;
+    private final String[] descriptions;
+    private final int[] lengths;
+    private final double averageLength;
+    private final String[] terms;
+    private final int[][] postings;
+    private final double[][] frequencies;
+
+    private SearchIndex(List<Row> rows, int[] lengths, long totalLength, Map<String, Postings> termPostings) {
+        int size = rows.size();
+        this.rowIds = new long[size];
+        this.packages = new SearchResult.Package[size];
+        this.names = new String[size];
+        this.descriptions = new String[size];
+        this.lengths = lengths;
+        for (int i = 0; i < size; i++) {
+            Row row = rows.get(i);
+            rowIds[i] = row.id();
+            packages[i] = row.packageInfo();
+            names[i] = row.name();
+            descriptions[i] = row.description();
+        }
+        this.averageLength = size == 0 ? 0 : (double) totalLength / (double) size;
+
+        this.terms = termPostings.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        this.postings = new int[terms.length][];
+        this.frequencies = new double[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            Postings termPosting = termPostings.get(terms[i]);
+            postings[i] = Arrays.copyOf(termPosting.rows, termPosting.size);
+            frequencies[i] = Arrays.copyOf(termPosting.frequencies, termPosting.size);
+        }
+    }
+
+    /**
+     * Builds the index of the given rows.
+     *
+     * @param rows          the rows of the table, in the order of their row IDs
+     * @param columnWeights the weights of the name, description and package name columns in the rank
+     * @return the index of the rows
+     */
+    static SearchIndex build(List<Row> rows, double... columnWeights) {
+        Map<String, Postings> termPostings = new HashMap<>();
+        int[] lengths = new int[rows.size()];
+        long totalLength = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            String[] columns = {row.name(), row.description(), row.packageInfo().name()};
+            for (int column = 0; column < columns.length; column++) {
+                for (String term : tokenize(columns[column])) {
+                    termPostings.computeIfAbsent(term, k -> new Postings()).add(i, columnWeights[column]);
+                    lengths[i]++;
+                }
+            }
+            totalLength += lengths[i];
+        }
+        return new SearchIndex(rows, lengths, totalLength, termPostings);
+    }
+
+    /**
+     * Searches the index for the given query.
+     *
+     * @param query  the sanitized query, containing only alphanumeric characters and spaces
+     * @param limit  the maximum number of results to return, or a negative value to return all the results
+     * @param offset the number of results to skip
+     * @return the results ranked by their relevance to the query
+     */
+    List<SearchResult> search(String query, int limit, int offset) {
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+        return rank(query).page(offset, limit);
+    }
+
+    /**
+     * Ranks the entries matching the given query, so that the pages of the results can be read without searching
+     * again.
+     *
+     * @param query the sanitized query, containing only alphanumeric characters and spaces
+     * @return the entries matching the query, ranked by their relevance to it
+     */
+    Ranking rank(String query) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new Ranking(new int[0]);
+        }
+
+        int size = rowIds.length;
+        int phraseCount = queryTerms.size();
+        double[][] phraseFrequencies = new double[phraseCount][];
+        double[] idfs = new double[phraseCount];
+        int[] candidates = null;
+        for (int i = 0; i < phraseCount; i++) {
+            double[] rowFrequencies = new double[size];
+            int[] hitRows = collect(queryTerms.get(i), i == phraseCount - 1, rowFrequencies);
+            if (hitRows.length == 0) {
+                return new Ranking(new int[0]);
+            }
+            int hits = hitRows.length;
+            double idf = Math.log((size - hits + 0.5) / (hits + 0.5));
+            idfs[i] = idf <= 0.0 ? 1e-6 : idf;
+            phraseFrequencies[i] = rowFrequencies;
+            if (candidates == null || hitRows.length < candidates.length) {
+                candidates = hitRows;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int row : candidates) {
+            double score = 0.0;
+            boolean matched = true;
+            for (int i = 0; i < phraseCount; i++) {
+                double frequency = phraseFrequencies[i][row];
+                if (frequency == 0.0) {
+                    matched = false;
+                    break;
+                }
+                score += idfs[i] * ((frequency * (K1 + 1.0)) /
+                        (frequency + K1 * (1 - B + B * (double) lengths[row] / averageLength)));
+            }
+            if (matched) {
+                matches.add(new Match(row, -1.0 * score));
+            }
+        }
+        matches.sort((m1, m2) -> m1.rank() != m2.rank() ? Double.compare(m1.rank(), m2.rank()) :
+                Long.compare(rowIds[m1.row()], rowIds[m2.row()]));
+        return new Ranking(matches.stream().mapToInt(Match::row).toArray());
+    }
+
+    int size() {
+        return rowIds.length;
+    }
+
+    /**
+     * Adds the weighted frequencies of the terms matching the given query term to the rows containing them.
+     *
+     * @return the rows containing a matching term
+     */
+    private int[] collect(String queryTerm, boolean isPrefix, double[] rowFrequencies) {
+        int index = Arrays.binarySearch(terms, queryTerm);
+        int start = index >= 0 ? index : -index - 1;
+        int end = isPrefix ? start : (index >= 0 ? index + 1 : start);
+        if (isPrefix) {
+            while (end < terms.length && terms[end].startsWith(queryTerm)) {
+                end++;
+            }
+        }
+
+        if (end - start == 1) {
+            for (int j = 0; j < postings[start].length; j++) {
+                rowFrequencies[postings[start][j]] = frequencies[start][j];
+            }
+            return postings[start];
+        }
+
+        int[] hitRows = new int[16];
+        int hits = 0;
+        for (int i = start; i < end; i++) {
+            int[] termRows = postings[i];
+            double[] termFrequencies = frequencies[i];
+            for (int j = 0; j < termRows.length; j++) {
+                int row = termRows[j];
+                if (rowFrequencies[row] == 0.0) {
+                    if (hits == hitRows.length) {
+                        hitRows = Arrays.copyOf(hitRows, hits * 2);
+                    }
+                    hitRows[hits++] = row;
+                }
+                rowFrequencies[row] += termFrequencies[j];
+            }
+        }
+        return Arrays.copyOf(hitRows, hits);
+    }
+
+    /**
+     * Splits the given text into terms as the unicode61 tokenizer of FTS5 does, treating every character that is not
+     * a letter or a number as a separator, folding the case and removing the diacritics.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (isTokenCharacter(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalize(text.substring(start, i)));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            tokens.add(normalize(text.substring(start)));
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenCharacter(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.LETTER_NUMBER || type == Character.OTHER_NUMBER || type == Character.PRIVATE_USE;
+    }
+
+    private static String normalize(String token) {
+        String lowerCaseToken = token.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCaseToken.length(); i++) {
+            if (lowerCaseToken.charAt(i) > 127) {
+                return Normalizer.normalize(lowerCaseToken, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            }
+        }
+        return lowerCaseToken;
+    }
+
+    /**
+     * Represents a row of a table in the search index.
+     *
+     * @param id          the row ID
+     * @param packageInfo the package of the entry
+     * @param name        the name of the entry
+     * @param description the description of the entry
+     */
+    record Row(long id, SearchResult.Package packageInfo, String name, String description) {
+
+    }
+
+    /**
+     * The entries matching a query, in the order of their rank.
+     */
+    final class Ranking {
+
+        private final int[] rows;
+
+        private Ranking(int[] rows) {
+            this.rows = rows;
+        }
+
+        int size() {
+            return rows.length;
+        }
+
+        /**
+         * Returns a page of the ranked entries.
+         *
+         * @param offset the number of entries to skip
+         * @param limit  the maximum number of entries to return, or a negative value to return all the entries
+         * @return the entries of the page
+         */
+        List<SearchResult> page(int offset, int limit) {
+            int from = Math.min(Math.max(offset, 0), rows.length);
+            int to = limit < 0 ? rows.length : (int) Math.min((long) from + limit, rows.length);
+            List<SearchResult> results = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                int row = rows[i];
+                results.add(SearchResult.from(packages[row], names[row], descriptions[row]));
+            }
+            return results;
+        }
+    }
+
+    private record Match(int row, double rank) {
+
+    }
+
+    /**
+     * The rows containing a term, along with the weighted frequency of the term in each row.
+     */
+    private static final class Postings {
+
+        private int[] rows = new int[4];
+        private double[] frequencies = new double[4];
+        private int size;
+
+        private void add(int row, double weight) {
+            if (size > 0 && rows[size - 1] == row) {
+                frequencies[size - 1] += weight;
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            rows[size] = row;
+            frequencies[size] = weight;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.List;
+
+/**
+ * Represents a page of the results of a full-text search, along with the cursor to read the next page.
+ *
+ * @param results    The results of the page, ranked by their relevance to the query
+ * @param nextCursor The cursor of the next page, or null if this is the last page
+ * @since 2.0.0
+ */
+public record SearchPage(List<SearchResult> results, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -20,12 +20,7 @@ package io.ballerina.modelgenerator.commons;
 
 import io.ballerina.compiler.api.symbols.AnnotationAttachPoint;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -45,7 +40,7 @@ public class ServiceDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "service-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(ServiceDatabaseManager.class.getName());
-    private final String dbPath;
+    private final DatabaseConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -63,25 +58,17 @@ public class ServiceDatabaseManager {
             throw new RuntimeException("Failed to load SQLite JDBC driver", e);
         }
 
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("service-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
-        }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
+        Path indexFile = IndexFileExtractor.extract(getClass().getClassLoader(), INDEX_FILE_NAME);
+        connectionPool = new DatabaseConnectionPool("jdbc:sqlite:" + indexFile);
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+    /**
+     * Returns the hit, miss and wait counters of the underlying connection pool.
+     *
+     * @return the connection pool statistics
+     */
+    public DatabaseConnectionPool.Statistics getConnectionPoolStatistics() {
+        return connectionPool.getStatistics();
     }
 
     public Optional<FunctionData> getListener(String module) {
@@ -98,30 +85,30 @@ public class ServiceDatabaseManager {
         sql.append("JOIN Package p ON l.package_id = p.package_id ");
         sql.append("WHERE p.name = ? ");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, module);
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("listener_id"),
-                        rs.getString("listener_name"),
-                        rs.getString("listener_description"),
-                        null,
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        null,
-                        null,
-                        rs.getBoolean("return_error"),
-                        false,
-                        null);
-                functionData.setPackageId(rs.getString("package_id"));
-                conn.close();
-                return Optional.of(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("listener_id"),
+                            rs.getString("listener_name"),
+                            rs.getString("listener_description"),
+                            null,
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            null,
+                            null,
+                            rs.getBoolean("return_error"),
+                            false,
+                            null);
+                    functionData.setPackageId(rs.getString("package_id"));
+                    return Optional.of(functionData);
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -145,60 +132,58 @@ public class ServiceDatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.listener_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, listenerId);
-            ResultSet rs = stmt.executeQuery();
-
-            // Use a builder to accumulate parameter data and member types
-            LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
-
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                int parameterId = rs.getInt("parameter_id");
-                String type = rs.getString("type");
-                ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
-                String defaultValue = rs.getString("default_value");
-                String description = rs.getString("description");
-                boolean optional = rs.getBoolean("optional");
-                String importStatements = rs.getString("import_statements");
-
-                // Member type data
-                String memberType = rs.getString("member_type");
-                String memberKind = rs.getString("member_kind");
-                String memberPackage = rs.getString("member_package");
-
-                // Get or create the builder for this parameter
-                ParameterDataBuilder builder = builders.get(paramName);
-                if (builder == null) {
-                    builder = new ParameterDataBuilder();
-                    builder.parameterId = parameterId;
-                    builder.name = paramName;
-                    builder.type = type;
-                    builder.kind = kind;
-                    builder.defaultValue = defaultValue;
-                    builder.description = description;
-                    builder.optional = optional;
-                    builder.importStatements = importStatements;
-                    builders.put(paramName, builder);
+            try (ResultSet rs = stmt.executeQuery()) {
+                // Use a builder to accumulate parameter data and member types
+                LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+
+                while (rs.next()) {
+                    String paramName = rs.getString("name");
+                    int parameterId = rs.getInt("parameter_id");
+                    String type = rs.getString("type");
+                    ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
+                    String defaultValue = rs.getString("default_value");
+                    String description = rs.getString("description");
+                    boolean optional = rs.getBoolean("optional");
+                    String importStatements = rs.getString("import_statements");
+
+                    // Member type data
+                    String memberType = rs.getString("member_type");
+                    String memberKind = rs.getString("member_kind");
+                    String memberPackage = rs.getString("member_package");
+
+                    // Get or create the builder for this parameter
+                    ParameterDataBuilder builder = builders.get(paramName);
+                    if (builder == null) {
+                        builder = new ParameterDataBuilder();
+                        builder.parameterId = parameterId;
+                        builder.name = paramName;
+                        builder.type = type;
+                        builder.kind = kind;
+                        builder.defaultValue = defaultValue;
+                        builder.description = description;
+                        builder.optional = optional;
+                        builder.importStatements = importStatements;
+                        builders.put(paramName, builder);
+                    }
+
+                    // Add member type if present
+                    if (memberType != null) {
+                        ParameterMemberTypeData memberData = new ParameterMemberTypeData(
+                                memberType, memberKind, memberPackage);
+                        builder.typeMembers.add(memberData);
+                    }
                 }
 
-                // Add member type if present
-                if (memberType != null) {
-                    ParameterMemberTypeData memberData = new ParameterMemberTypeData(
-                            memberType, memberKind, memberPackage);
-                    builder.typeMembers.add(memberData);
+                // Convert builders to ParameterData
+                LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
+                for (ParameterDataBuilder builder : builders.values()) {
+                    parameterResults.put(builder.name, builder.build());
                 }
+                return parameterResults;
             }
-
-            // Convert builders to ParameterData
-            LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
-            for (ParameterDataBuilder builder : builders.values()) {
-                parameterResults.put(builder.name, builder.build());
-            }
-            conn.close();
-            return parameterResults;
-
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return new LinkedHashMap<>();
@@ -231,43 +216,42 @@ public class ServiceDatabaseManager {
         sql.append("JOIN Package p ON s.package_id = p.package_id ");
         sql.append("WHERE p.name = ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, moduleName);
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
-                        rs.getInt("package_id"),
-                        rs.getString("org"),
-                        rs.getString("package_name"),
-                        rs.getString("version")
-                );
-
-                ServiceDeclaration serviceDeclaration = new ServiceDeclaration(
-                        packageInfo,
-                        rs.getString("display_name"),
-                        rs.getInt("optional_type_descriptor"),
-                        rs.getString("type_descriptor_label"),
-                        rs.getString("type_descriptor_description"),
-                        rs.getString("type_descriptor_default_value"),
-                        rs.getInt("add_default_type_descriptor"),
-                        rs.getInt("optional_absolute_resource_path"),
-                        rs.getString("absolute_resource_path_label"),
-                        rs.getString("absolute_resource_path_description"),
-                        rs.getString("absolute_resource_path_default_value"),
-                        rs.getInt("optional_string_literal"),
-                        rs.getString("string_literal_label"),
-                        rs.getString("string_literal_description"),
-                        rs.getString("string_literal_default_value"),
-                        rs.getString("listener_kind"),
-                        rs.getString("kind")
-                );
-                conn.close();
-                return Optional.of(serviceDeclaration);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
+                            rs.getInt("package_id"),
+                            rs.getString("org"),
+                            rs.getString("package_name"),
+                            rs.getString("version")
+                    );
+
+                    ServiceDeclaration serviceDeclaration = new ServiceDeclaration(
+                            packageInfo,
+                            rs.getString("display_name"),
+                            rs.getInt("optional_type_descriptor"),
+                            rs.getString("type_descriptor_label"),
+                            rs.getString("type_descriptor_description"),
+                            rs.getString("type_descriptor_default_value"),
+                            rs.getInt("add_default_type_descriptor"),
+                            rs.getInt("optional_absolute_resource_path"),
+                            rs.getString("absolute_resource_path_label"),
+                            rs.getString("absolute_resource_path_description"),
+                            rs.getString("absolute_resource_path_default_value"),
+                            rs.getInt("optional_string_literal"),
+                            rs.getString("string_literal_label"),
+                            rs.getString("string_literal_description"),
+                            rs.getString("string_literal_default_value"),
+                            rs.getString("listener_kind"),
+                            rs.getString("kind")
+                    );
+                    return Optional.of(serviceDeclaration);
+                }
+                return Optional.empty();
             }
-            conn.close();
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -277,16 +261,16 @@ public class ServiceDatabaseManager {
     public List<String> getServiceTypes(int packageId) {
         String sql = "SELECT DISTINCT name FROM ServiceType WHERE package_id = ?";
         List<String> serviceTypes = new ArrayList<>();
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                serviceTypes.add(rs.getString("name"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    serviceTypes.add(rs.getString("name"));
+                }
+                return serviceTypes;
             }
-            conn.close();
-            return serviceTypes;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -306,25 +290,25 @@ public class ServiceDatabaseManager {
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE a.package_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
-            List<AnnotationAttachment> annotations = new ArrayList<>();
-            while (rs.next()) {
-                annotations.add(new AnnotationAttachment(
-                        rs.getString("annot_name"),
-                        Arrays.stream(rs.getString("attachment_points").split(","))
-                                .map(AnnotationAttachPoint::valueOf).toList(),
-                        rs.getString("display_name"),
-                        rs.getString("description"),
-                        rs.getString("type_constrain"),
-                        rs.getString("package")
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<AnnotationAttachment> annotations = new ArrayList<>();
+                while (rs.next()) {
+                    annotations.add(new AnnotationAttachment(
+                            rs.getString("annot_name"),
+                            Arrays.stream(rs.getString("attachment_points").split(","))
+                                    .map(AnnotationAttachPoint::valueOf).toList(),
+                            rs.getString("display_name"),
+                            rs.getString("description"),
+                            rs.getString("type_constrain"),
+                            rs.getString("package")
+                    ));
+                }
+                return annotations;
             }
-            conn.close();
-            return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -348,39 +332,42 @@ public class ServiceDatabaseManager {
                 "JOIN ServiceType st ON f.service_type_id = st.service_type_id " +
                 "WHERE st.package_id = ? AND st.name = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
             stmt.setString(2, serviceType);
 
-            ResultSet rs = stmt.executeQuery();
-            List<ServiceTypeFunction> functions = new ArrayList<>();
-            while (rs.next()) {
-                int functionId = rs.getInt("function_id");
-                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
-                functions.add(new ServiceTypeFunction(
-                        rs.getInt("function_id"),
-                        rs.getString("name"),
-                        rs.getString("description"),
-                        rs.getString("accessor"),
-                        rs.getString("kind"),
-                        rs.getString("return_type"),
-                        rs.getInt("return_error"),
-                        rs.getInt("return_type_editable"),
-                        rs.getString("import_statements"),
-                        rs.getInt("enable"),
-                        params
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ServiceTypeFunction> functions = new ArrayList<>();
+                while (rs.next()) {
+                    int functionId = rs.getInt("function_id");
+                    List<ServiceTypeFunction.ServiceTypeFunctionParameter> params =
+                            getServiceFunctionParams(conn, functionId);
+                    functions.add(new ServiceTypeFunction(
+                            rs.getInt("function_id"),
+                            rs.getString("name"),
+                            rs.getString("description"),
+                            rs.getString("accessor"),
+                            rs.getString("kind"),
+                            rs.getString("return_type"),
+                            rs.getInt("return_error"),
+                            rs.getInt("return_type_editable"),
+                            rs.getString("import_statements"),
+                            rs.getInt("enable"),
+                            params
+                    ));
+                }
+                return functions;
             }
-            conn.close();
-            return functions;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
         }
     }
 
-    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(int functionId) {
+    // Reuses the connection of the caller, so that nested queries do not compete for a second pooled connection
+    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(
+            DatabaseConnectionPool.PooledConnection conn, int functionId) throws SQLException {
         String sql = "SELECT " +
                 "parameter_id, " +
                 "name, " +
@@ -395,11 +382,10 @@ public class ServiceDatabaseManager {
                 "FROM ServiceTypeFunctionParameter " +
                 "WHERE function_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, functionId);
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        stmt.setInt(1, functionId);
 
-            ResultSet rs = stmt.executeQuery();
+        try (ResultSet rs = stmt.executeQuery()) {
             List<ServiceTypeFunction.ServiceTypeFunctionParameter> parameters = new ArrayList<>();
             while (rs.next()) {
                 parameters.add(new ServiceTypeFunction.ServiceTypeFunctionParameter(
@@ -415,11 +401,7 @@ public class ServiceDatabaseManager {
                         rs.getInt("editable_type")
                 ));
             }
-            conn.close();
             return parameters;
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return List.of();
         }
     }
 
@@ -434,27 +416,27 @@ public class ServiceDatabaseManager {
                 "FROM Annotation a " +
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? AND a.attachment_points LIKE ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (DatabaseConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, packageName);
             stmt.setString(2, org);
             stmt.setString(3, "%" + attachPoint + "%");
 
-            ResultSet rs = stmt.executeQuery();
-            List<Annotation> annotations = new ArrayList<>();
-            while (rs.next()) {
-                annotations.add(new Annotation(
-                        rs.getString("annot_name"),
-                        rs.getString("display_name"),
-                        rs.getString("description"),
-                        rs.getString("type_constrain"),
-                        rs.getString("package"),
-                        org,
-                        packageName
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<Annotation> annotations = new ArrayList<>();
+                while (rs.next()) {
+                    annotations.add(new Annotation(
+                            rs.getString("annot_name"),
+                            rs.getString("display_name"),
+                            rs.getString("description"),
+                            rs.getString("type_constrain"),
+                            rs.getString("package"),
+                            org,
+                            packageName
+                    ));
+                }
+                return annotations;
             }
-            conn.close();
-            return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
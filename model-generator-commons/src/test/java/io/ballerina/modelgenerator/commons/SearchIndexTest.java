@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests the in-memory search index against the FTS5 table it replaces, which must rank the entries the same way.
+ *
+ * @since 2.0.0
+ */
+public class SearchIndexTest {
+
+    private static final Object[][] ROWS = {
+            {1, "get", "Gets the value from the cache", "cache"},
+            {2, "put", "Puts a value into the cache", "cache"},
+            {3, "getAll", "Gets all the values from the cache", "cache"},
+            {4, "utcNow", "Returns the current UTC time", "time"},
+            {5, "utcToString", "Converts a UTC time to a string", "time"},
+            {6, "parse", "Parses a JSON string", "jsondata"},
+            {7, "parseAsType", "Parses a JSON string as a type", "jsondata"},
+            {8, "printInfo", "Prints an info log", "log"},
+            {9, "printError", "Prints an error log", "log"},
+            {10, "get", "Gets the value from the cache", "cache"},
+            {11, "post", "Sends a POST request", "http"},
+            {12, "get", "Sends a GET request", "http"},
+            {13, "Client", "The HTTP client", "http"},
+            {14, "toJson", "Converts a value to JSON", "value"},
+            {15, "fromJsonString", "Parses a JSON string to a value", "value"},
+            {16, "log", null, "log"},
+            {17, "printInfo", "Prints an info log", "log"}
+    };
+
+    private Path tempDir;
+    private Connection connection;
+    private SearchIndex searchIndex;
+
+    @BeforeClass
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("search-index-test");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve("search-index.sqlite"));
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE Function (id INTEGER PRIMARY KEY, name TEXT NOT NULL, description TEXT, " +
+                    "package_name TEXT NOT NULL)");
+            stmt.execute("CREATE VIRTUAL TABLE FunctionFTS USING fts5(name, description, package_name, " +
+                    "content='Function', content_rowid='id')");
+            stmt.execute("INSERT INTO FunctionFTS(FunctionFTS, rank) VALUES('rank', 'bm25(10.0, 2.0, 5.0)')");
+        }
+
+        List<SearchIndex.Row> rows = new ArrayList<>();
+        try (PreparedStatement insertRow = connection.prepareStatement("INSERT INTO Function VALUES (?, ?, ?, ?)");
+             PreparedStatement insertFts = connection.prepareStatement(
+                     "INSERT INTO FunctionFTS(rowid, name, description, package_name) VALUES (?, ?, ?, ?)")) {
+            for (Object[] row : ROWS) {
+                for (PreparedStatement stmt : List.of(insertRow, insertFts)) {
+                    for (int i = 0; i < row.length; i++) {
+                        stmt.setObject(i + 1, row[i]);
+                    }
+                    stmt.executeUpdate();
+                }
+                // The row ID is kept as the version of the package, to identify the results
+                int id = (int) row[0];
+                SearchResult.Package packageInfo = new SearchResult.Package("ballerina", (String) row[3],
+                        String.valueOf(id));
+                rows.add(new SearchIndex.Row(id, packageInfo, (String) row[1], (String) row[2]));
+            }
+        }
+        searchIndex = SearchIndex.build(rows, 10.0, 2.0, 5.0);
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(dataProvider = "queries")
+    public void testRank(String description, String query) throws SQLException {
+        List<Long> expectedIds = searchFts(query, -1, 0);
+        SearchIndex.Ranking ranking = searchIndex.rank(query);
+        Assert.assertEquals(getIds(ranking.page(0, -1)), expectedIds,
+                String.format("Unexpected ranking of '%s' (%s)", query, description));
+        Assert.assertEquals(ranking.size(), expectedIds.size());
+    }
+
+    @Test(dataProvider = "queries")
+    public void testSearchPages(String description, String query) throws SQLException {
+        for (int offset = 0; offset < 6; offset += 2) {
+            Assert.assertEquals(getIds(searchIndex.search(query, 2, offset)), searchFts(query, 2, offset),
+                    String.format("Unexpected page at %d of '%s' (%s)", offset, query, description));
+        }
+    }
+
+    @DataProvider(name = "queries")
+    private Object[][] getQueries() {
+        return new Object[][]{
+                {"Single term", "json"},
+                {"Single term", "client"},
+                {"Single term without matches", "nothing"},
+                {"Multiple terms", "utc time"},
+                {"Multiple terms", "json string"},
+                {"Prefix of a term", "par"},
+                {"Prefix of the last term", "prints in"},
+                {"Prefix of the last term", "the c"},
+                {"Prefix of many terms", "a"},
+                {"Tied ranks", "get"},
+                {"Tied ranks", "cache"},
+                {"Tied ranks", "log"},
+                {"Tied ranks", "gets value"},
+                {"Tied ranks", "prints info"}
+        };
+    }
+
+    /**
+     * Searches the FTS table the same way the search index is queried by the database manager.
+     */
+    private List<Long> searchFts(String query, int limit, int offset) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT rowid FROM FunctionFTS " +
+                "WHERE FunctionFTS MATCH ? ORDER BY rank, rowid LIMIT ? OFFSET ?")) {
+            stmt.setString(1, query + "*");
+            stmt.setInt(2, limit);
+            stmt.setInt(3, offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> getIds(List<SearchResult> results) {
+        return results.stream().map(result -> Long.parseLong(result.packageInfo().version())).toList();
+    }
+}